@@ -3,6 +3,7 @@ package de.peachbiscuit174.peachlib;
 import de.peachbiscuit174.peachlib.gui.GUIListener;
 import de.peachbiscuit174.peachlib.other.HolidayGreetingListener;
 import de.peachbiscuit174.peachlib.other.ReloadSafetyListener;
+import de.peachbiscuit174.peachlib.player.ItemDelivery;
 import de.peachbiscuit174.peachlib.scheduler.LibraryScheduler;
 import de.peachbiscuit174.peachlib.updatecheck.UpdateChecker;
 import org.bstats.bukkit.Metrics;
@@ -42,6 +43,7 @@ public final class PeachLib extends JavaPlugin {
         updateChecker = new UpdateChecker(this);
         updateChecker.bootstrap();
         new ReloadSafetyListener(this, scheduler);
+        ItemDelivery.loadMailboxes();
         Bukkit.getServer().getPluginManager().registerEvents(new GUIListener(), this);
         Bukkit.getServer().getPluginManager().registerEvents(new HolidayGreetingListener(), this);
 
@@ -56,6 +58,8 @@ public final class PeachLib extends JavaPlugin {
     @Override
     public void onDisable() {
         // Plugin shutdown logic
+        ItemDelivery.saveMailboxes();
+
         if (scheduler != null) {
             scheduler.shutdown();
         }
@@ -1,14 +1,21 @@
 package de.peachbiscuit174.peachlib.api.gui;
 
 import de.peachbiscuit174.peachlib.gui.GUIButton;
+import de.peachbiscuit174.peachlib.gui.GUIRegistry;
+import de.peachbiscuit174.peachlib.gui.GUITemplateLoader;
 import de.peachbiscuit174.peachlib.gui.InventoryGUI;
 import de.peachbiscuit174.peachlib.gui.PaginatedGUI;
+import de.peachbiscuit174.peachlib.gui.ScrollingGUI;
 import de.peachbiscuit174.peachlib.items.ItemBuilder;
+import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.File;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * API for creating and managing modern Inventory GUIs.
@@ -44,6 +51,34 @@ public class InventoryGUIAPI {
         return new PaginatedGUI(rows, titleMiniMessage);
     }
 
+    /**
+     * Creates a new ScrollingGUI instance.
+     * <p>
+     * Scrolls the content row by row inside one inventory instead of opening a new page.
+     * </p>
+     *
+     * @param rows             The number of rows for the inventory (2-6).
+     * @param titleMiniMessage The title of the inventory (supports MiniMessage).
+     * @return A new {@link ScrollingGUI} instance.
+     */
+    public ScrollingGUI createScrollingGUI(int rows, @NotNull String titleMiniMessage) {
+        return new ScrollingGUI(rows, titleMiniMessage);
+    }
+
+    /**
+     * Creates a loader for menus defined in YAML files.
+     * <p>
+     * Call {@link GUITemplateLoader#loadAll()} after registering the click actions.
+     * </p>
+     *
+     * @param plugin The plugin owning the menus.
+     * @param folder The folder containing the menu files (created if missing).
+     * @return A new {@link GUITemplateLoader} instance.
+     */
+    public GUITemplateLoader createTemplateLoader(@NotNull Plugin plugin, @NotNull File folder) {
+        return new GUITemplateLoader(plugin, folder);
+    }
+
     /**
      * Creates a standard GUIButton with a specific action.
      *
@@ -82,4 +117,33 @@ public class InventoryGUIAPI {
     public GUIButton createPlaceholder(@NotNull ItemBuilder itemBuilder, @NotNull String actionId) {
         return new GUIButton(itemBuilder, actionId, null);
     }
+
+    /**
+     * Returns the PeachLib GUI the player currently has open.
+     *
+     * @param player The player to check.
+     * @return The open {@link InventoryGUI} or {@code null} if none is open.
+     */
+    public @Nullable InventoryGUI getOpenGUI(@NotNull Player player) {
+        return GUIRegistry.getOpenGUI(player);
+    }
+
+    /**
+     * Refreshes all open GUIs matching the filter. Only changed slots are updated.
+     *
+     * @param filter Selects the GUIs to refresh.
+     * @return The number of refreshed GUIs.
+     */
+    public int refreshOpenGUIs(@NotNull Predicate<InventoryGUI> filter) {
+        return GUIRegistry.refreshAll(filter);
+    }
+
+    /**
+     * Returns the number of players that currently have a PeachLib GUI open.
+     *
+     * @return The number of tracked viewers.
+     */
+    public int getOpenGUICount() {
+        return GUIRegistry.getTrackedCount();
+    }
 }
\ No newline at end of file
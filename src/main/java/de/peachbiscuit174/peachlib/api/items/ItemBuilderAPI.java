@@ -1,6 +1,7 @@
 package de.peachbiscuit174.peachlib.api.items;
 
 import de.peachbiscuit174.peachlib.items.ItemBuilder;
+import de.peachbiscuit174.peachlib.items.ItemSpec;
 import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
@@ -30,4 +31,18 @@ public class ItemBuilderAPI {
     public @NotNull ItemBuilder builder(@NotNull ItemStack itemStack) {
         return new ItemBuilder(itemStack);
     }
+
+    /**
+     * Starts a builder for an immutable {@link ItemSpec}.
+     * <p>
+     * A spec is assembled once and can be shared between threads;
+     * creating an item from it is a single clone.
+     * </p>
+     *
+     * @param material The material to start with.
+     * @return A new {@link ItemSpec.Builder} instance.
+     */
+    public @NotNull ItemSpec.Builder specBuilder(@NotNull Material material) {
+        return ItemSpec.builder(material);
+    }
 }
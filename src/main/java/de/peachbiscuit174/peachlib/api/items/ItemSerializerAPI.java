@@ -1,10 +1,18 @@
 package de.peachbiscuit174.peachlib.api.items;
 
+import de.peachbiscuit174.peachlib.items.ItemBulkLoader;
+import de.peachbiscuit174.peachlib.items.ItemLog;
 import de.peachbiscuit174.peachlib.items.ItemSerializer;
+import de.peachbiscuit174.peachlib.items.ItemStore;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * A utility API to serialize and deserialize ItemStacks to Base64 Strings.
  * Useful for storing items in databases or configuration files.
@@ -54,4 +62,136 @@ public class ItemSerializerAPI {
     public @Nullable ItemStack deserializeFromBase64(@NotNull String base64) {
         return ItemSerializer.deserializeFromBase64(base64);
     }
-}
\ No newline at end of file
+
+    /**
+     * Serializes a whole inventory (e.g. {@code inventory.getContents()}) into one framed blob.
+     * Empty slots take no space; the slot positions are kept.
+     *
+     * @param contents The items; {@code null} entries are allowed.
+     * @return The byte array.
+     */
+    public byte[] serializeItems(ItemStack[] contents) {
+        return ItemSerializer.serializeItems(contents);
+    }
+
+    /**
+     * Deserializes a blob created by {@link #serializeItems(ItemStack[])}.
+     *
+     * @param bytes The byte array.
+     * @return The items indexed by slot, or null if the data is invalid.
+     */
+    public ItemStack[] deserializeItems(byte[] bytes) {
+        return ItemSerializer.deserializeItems(bytes);
+    }
+
+    /**
+     * Serializes a whole inventory into a single Base64 string.
+     *
+     * @param contents The items; {@code null} entries are allowed.
+     * @return A Base64 string representation.
+     */
+    public @NotNull String serializeItemsToBase64(ItemStack[] contents) {
+        return ItemSerializer.serializeItemsToBase64(contents);
+    }
+
+    /**
+     * Deserializes a Base64 string created by {@link #serializeItemsToBase64(ItemStack[])}.
+     *
+     * @param base64 The Base64 string.
+     * @return The items indexed by slot, or null if the string is invalid.
+     */
+    public ItemStack[] deserializeItemsFromBase64(@NotNull String base64) {
+        return ItemSerializer.deserializeItemsFromBase64(base64);
+    }
+
+    /**
+     * Serializes an ItemStack into the compact PeachLib format.
+     * The result is usually much smaller than {@link #serializeToBytes(ItemStack)};
+     * {@link #deserializeFromBytes(byte[])} reads both formats.
+     *
+     * @param item The item to serialize.
+     * @return The compressed byte array.
+     */
+    public byte[] serializeCompressed(@NotNull ItemStack item) {
+        return ItemSerializer.serializeCompressed(item);
+    }
+
+    /**
+     * Serializes an ItemStack into the compact PeachLib format as Base64 String.
+     * {@link #deserializeFromBase64(String)} reads both formats.
+     *
+     * @param item The item to serialize.
+     * @return A Base64 string representation.
+     */
+    public @NotNull String serializeCompressedToBase64(@NotNull ItemStack item) {
+        return ItemSerializer.serializeCompressedToBase64(item);
+    }
+
+    /**
+     * Opens a content-addressed item store that keeps every distinct item only once.
+     *
+     * @param folder The folder of the store (created if missing).
+     * @return The {@link ItemStore}.
+     * @throws IOException If the folder could not be created or read.
+     */
+    public @NotNull ItemStore openItemStore(@NotNull File folder) throws IOException {
+        return new ItemStore(folder);
+    }
+
+    /**
+     * Opens a persistent virtual inventory stored as a memory-mapped, append-only log.
+     * Each change only appends a small record instead of rewriting the whole file.
+     *
+     * @param file The log file (created if missing).
+     * @return The {@link ItemLog}; close it when it is no longer needed.
+     * @throws IOException If the file could not be opened or is not an item log.
+     */
+    public @NotNull ItemLog openItemLog(@NotNull File file) throws IOException {
+        return new ItemLog(file);
+    }
+
+    /**
+     * Deserializes a byte array through a bounded cache. Repeated calls with the same bytes
+     * return a clone of the cached item instead of deserializing it again.
+     *
+     * @param bytes The byte array.
+     * @return A new ItemStack.
+     */
+    public @NotNull ItemStack deserializeCached(byte[] bytes) {
+        return ItemSerializer.deserializeCached(bytes);
+    }
+
+    /**
+     * Deserializes a Base64 String through a bounded cache. Repeated calls with the same string
+     * return a clone of the cached item without decoding it again.
+     *
+     * @param base64 The Base64 string.
+     * @return A new ItemStack, or null if the string is invalid.
+     */
+    public @Nullable ItemStack deserializeCachedFromBase64(@NotNull String base64) {
+        return ItemSerializer.deserializeCachedFromBase64(base64);
+    }
+
+    /**
+     * Deserializes many byte arrays in parallel off the main thread.
+     * Items stored with an older data version are re-serialized and passed to the listener,
+     * so they can be written back once.
+     *
+     * @param blobs    The serialized items.
+     * @param listener Receives upgraded items on a worker thread, or null.
+     * @return A future with the items in input order; invalid entries are null.
+     */
+    public @NotNull CompletableFuture<List<ItemStack>> deserializeAllAsync(@NotNull List<byte[]> blobs, @Nullable ItemBulkLoader.MigrationListener listener) {
+        return ItemBulkLoader.deserializeAll(blobs, listener);
+    }
+
+    /**
+     * Reads the data version a serialized item was stored with.
+     *
+     * @param bytes The byte array.
+     * @return The data version, or -1 if it cannot be determined.
+     */
+    public int getDataVersion(byte[] bytes) {
+        return ItemBulkLoader.getDataVersion(bytes);
+    }
+}
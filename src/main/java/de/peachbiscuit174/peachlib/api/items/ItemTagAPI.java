@@ -1,8 +1,13 @@
 package de.peachbiscuit174.peachlib.api.items;
 
+import de.peachbiscuit174.peachlib.items.ItemKey;
 import de.peachbiscuit174.peachlib.items.ItemTag;
+import de.peachbiscuit174.peachlib.items.TagKey;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
 
 /**
  * @author peachbiscuit174
@@ -50,5 +55,131 @@ public class ItemTagAPI {
         return ItemTag.removeItemTag(itemStack, item_tag_key);
     }
 
+    /**
+     * Assigns several identification tags at once.
+     * <p>
+     * The item meta is read and written only once, no matter how many tags are added.
+     * Tags the item already has remain unchanged.
+     * </p>
+     *
+     * @param itemStack     The {@link ItemStack} to which the tags should be applied.
+     * @param item_tag_keys The tag keys to set.
+     * @return The modified {@link ItemStack}.
+     */
+    public static ItemStack setItemTags(@NotNull ItemStack itemStack, @NotNull Collection<String> item_tag_keys) {
+        return ItemTag.setItemTags(itemStack, item_tag_keys);
+    }
+
+    /**
+     * Removes several identification tags at once with a single meta read and write.
+     *
+     * @param itemStack     The {@link ItemStack} from which the tags should be removed.
+     * @param item_tag_keys The tag keys to be deleted.
+     * @return The {@link ItemStack} without the specified tags.
+     */
+    public static ItemStack removeItemTags(@NotNull ItemStack itemStack, @NotNull Collection<String> item_tag_keys) {
+        return ItemTag.removeItemTags(itemStack, item_tag_keys);
+    }
+
+    /**
+     * Checks whether the {@link ItemStack} contains at least one of the tags.
+     *
+     * @param itemStack     The {@link ItemStack} to inspect.
+     * @param item_tag_keys The tag keys to look for.
+     * @return {@code true} if the item has any of the tags; {@code false} otherwise.
+     */
+    public static boolean hasAnyTag(@NotNull ItemStack itemStack, @NotNull Collection<String> item_tag_keys) {
+        return ItemTag.hasAnyTag(itemStack, item_tag_keys);
+    }
+
+    /**
+     * Checks whether the {@link ItemStack} contains all of the tags.
+     *
+     * @param itemStack     The {@link ItemStack} to inspect.
+     * @param item_tag_keys The tag keys to look for.
+     * @return {@code true} if the item has every tag; {@code false} otherwise.
+     */
+    public static boolean hasAllTags(@NotNull ItemStack itemStack, @NotNull Collection<String> item_tag_keys) {
+        return ItemTag.hasAllTags(itemStack, item_tag_keys);
+    }
+
+    /**
+     * Reads a typed value from the {@link ItemStack} without copying its meta.
+     *
+     * @param itemStack The {@link ItemStack} to inspect.
+     * @param key       The pre-resolved {@link ItemKey}.
+     * @param <T>       The type of the value.
+     * @return The value or {@code null} if the item has none.
+     */
+    public static <T> @Nullable T getValue(@NotNull ItemStack itemStack, @NotNull ItemKey<T> key) {
+        return ItemTag.getValue(itemStack, key);
+    }
+
+    /**
+     * Stores a typed value on the {@link ItemStack}. A {@code null} value removes it.
+     *
+     * @param itemStack The {@link ItemStack} to modify.
+     * @param key       The pre-resolved {@link ItemKey}.
+     * @param value     The value to store.
+     * @param <T>       The type of the value.
+     * @return The modified {@link ItemStack}.
+     */
+    public static <T> ItemStack setValue(@NotNull ItemStack itemStack, @NotNull ItemKey<T> key, @Nullable T value) {
+        return ItemTag.setValue(itemStack, key, value);
+    }
+
+    /**
+     * Removes a typed value from the {@link ItemStack}.
+     *
+     * @param itemStack The {@link ItemStack} to modify.
+     * @param key       The pre-resolved {@link ItemKey}.
+     * @return The modified {@link ItemStack}.
+     */
+    public static ItemStack removeValue(@NotNull ItemStack itemStack, @NotNull ItemKey<?> key) {
+        return ItemTag.removeValue(itemStack, key);
+    }
+
+    /**
+     * Creates a pre-resolved tag handle. Store it in a constant and pass it to the
+     * {@link TagKey} overloads to skip the key lookup on every call.
+     *
+     * @param item_tag_key The tag key.
+     * @return A new {@link TagKey}.
+     */
+    public static @NotNull TagKey createTagKey(@NotNull String item_tag_key) {
+        return TagKey.of(item_tag_key);
+    }
 
+    /**
+     * Assigns a tag using a pre-resolved handle.
+     *
+     * @param itemStack The {@link ItemStack} to which the tag should be applied.
+     * @param tagKey    The {@link TagKey}.
+     * @return The modified {@link ItemStack}.
+     */
+    public static ItemStack setItemTag(@NotNull ItemStack itemStack, @NotNull TagKey tagKey) {
+        return ItemTag.setItemTag(itemStack, tagKey);
+    }
+
+    /**
+     * Checks for a tag using a pre-resolved handle.
+     *
+     * @param itemStack The {@link ItemStack} to inspect.
+     * @param tagKey    The {@link TagKey}.
+     * @return {@code true} if the item has the tag; {@code false} otherwise.
+     */
+    public static boolean hasItemTag(@NotNull ItemStack itemStack, @NotNull TagKey tagKey) {
+        return ItemTag.isItemTag(itemStack, tagKey);
+    }
+
+    /**
+     * Removes a tag using a pre-resolved handle.
+     *
+     * @param itemStack The {@link ItemStack} from which the tag should be removed.
+     * @param tagKey    The {@link TagKey}.
+     * @return The {@link ItemStack} without the tag.
+     */
+    public static ItemStack removeItemTag(@NotNull ItemStack itemStack, @NotNull TagKey tagKey) {
+        return ItemTag.removeItemTag(itemStack, tagKey);
+    }
 }
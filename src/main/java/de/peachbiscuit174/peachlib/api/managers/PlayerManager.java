@@ -1,9 +1,15 @@
 package de.peachbiscuit174.peachlib.api.managers;
 
 import de.peachbiscuit174.peachlib.api.player.PlayerManagerAPI;
+import de.peachbiscuit174.peachlib.text.Broadcast;
+import de.peachbiscuit174.peachlib.text.MessageTemplate;
+import net.kyori.adventure.text.Component;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Locale;
+import java.util.function.Function;
+
 /**
  * @author peachbiscuit174
  * @since 1.0.0
@@ -14,4 +20,36 @@ public class PlayerManager {
         return new PlayerManagerAPI(player);
     }
 
+    /**
+     * Creates a broadcast to all online players (or a custom recipient list).
+     * The message is rendered once per permission variant instead of once per player.
+     *
+     * @param miniMessage The message (supports MiniMessage).
+     * @return A new {@link Broadcast}; call {@link Broadcast#send()} to send it.
+     */
+    public @NotNull Broadcast createBroadcast(@NotNull String miniMessage) {
+        return Broadcast.of(miniMessage);
+    }
+
+    /**
+     * Creates a localized broadcast. The message is rendered once per locale and permission variant.
+     *
+     * @param renderer Renders the message for a locale.
+     * @return A new {@link Broadcast}; call {@link Broadcast#send()} to send it.
+     */
+    public @NotNull Broadcast createLocalizedBroadcast(@NotNull Function<Locale, Component> renderer) {
+        return Broadcast.localized(renderer);
+    }
+
+    /**
+     * Compiles a message template that can be rendered many times without re-parsing.
+     *
+     * @param miniMessage  The MiniMessage string.
+     * @param placeholders The names of the placeholder tags, in value order.
+     * @return The compiled {@link MessageTemplate}.
+     */
+    public @NotNull MessageTemplate compileMessage(@NotNull String miniMessage, @NotNull String... placeholders) {
+        return MessageTemplate.compile(miniMessage, placeholders);
+    }
+
 }
@@ -1,10 +1,15 @@
 package de.peachbiscuit174.peachlib.api.player;
 
+import de.peachbiscuit174.peachlib.player.ItemDelivery;
 import de.peachbiscuit174.peachlib.player.PlayerManaging;
+import de.peachbiscuit174.peachlib.text.MessageTemplate;
 import net.kyori.adventure.text.Component;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
 
 /**
  * @author peachbiscuit174
@@ -12,9 +17,11 @@ import org.jetbrains.annotations.NotNull;
  */
 public class PlayerManagerAPI {
     private final PlayerManaging playerManaging;
+    private final Player player;
 
     public PlayerManagerAPI (@NotNull Player player) {
         this.playerManaging = new PlayerManaging(player);
+        this.player = player;
     }
 
     /**
@@ -25,6 +32,18 @@ public class PlayerManagerAPI {
         playerManaging.sendMessage(message);
     }
 
+    /**
+     * Sends a precompiled message template to the player.
+     * <p>
+     * The template is parsed only once; sending just fills in the placeholder values.
+     * </p>
+     * @param template The {@link MessageTemplate} to render.
+     * @param values   The placeholder values, in the order declared by the template.
+     */
+    public void sendMessage(@NotNull MessageTemplate template, @Nullable Object... values) {
+        playerManaging.sendMessage(template, values);
+    }
+
     /**
      * Sets the display name of the player using MiniMessage formatting.
      * This updates the modern {@link Component} based display name.
@@ -73,4 +92,37 @@ public class PlayerManagerAPI {
         return playerManaging.giveOrDropItem(itemStack);
     }
 
+    /**
+     * Gives a collection of items at once. Items that do not fit are dropped at the player's location.
+     * <p>
+     * Similar items are merged and placed in one pass with a single inventory update;
+     * the overflow is dropped as one stack per item type.
+     * </p>
+     * @param items The {@link ItemStack}s to give or drop.
+     * @return {@code true} if all items were successfully added to the inventory;
+     * {@code false} if any items had to be dropped on the ground.
+     */
+    public boolean giveOrDropItems(@NotNull Collection<ItemStack> items) {
+        return playerManaging.giveOrDropItems(items);
+    }
+
+    /**
+     * Queues an item for batched delivery.
+     * <p>
+     * All items queued for the player within the same tick are merged and added in one pass.
+     * Items that do not fit are stored in the player's mailbox instead of being dropped.
+     * </p>
+     * @param itemStack The {@link ItemStack} to deliver.
+     */
+    public void deliverItem(@NotNull ItemStack itemStack) {
+        ItemDelivery.queue(player, itemStack);
+    }
+
+    /**
+     * Opens the player's mailbox containing items that did not fit into the inventory.
+     */
+    public void openMailbox() {
+        ItemDelivery.openMailbox(player);
+    }
+
 }
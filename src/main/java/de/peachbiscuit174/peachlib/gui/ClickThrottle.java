@@ -0,0 +1,89 @@
+package de.peachbiscuit174.peachlib.gui;
+
+import org.bukkit.entity.HumanEntity;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limiter for GUI clicks, evaluated before any click handler or item build runs.
+ * <p>
+ * Two limits are applied per viewer:
+ * <ul>
+ * <li><b>Viewer cooldown:</b> The minimum time between two handled clicks of the same viewer
+ * on any button of the GUIs sharing this throttle.</li>
+ * <li><b>Button cooldown:</b> The minimum time between two handled clicks of the same viewer
+ * on buttons with the same action ID (see {@link GUIButton#setClickCooldown(long)}).</li>
+ * </ul>
+ * Excess clicks are dropped. Viewers are held weakly, so no cleanup on quit is required.
+ * A single throttle can be shared by several GUIs (e.g. all pages of a {@link PaginatedGUI}).
+ * </p>
+ *
+ * @author peachbiscuit174
+ * @since 1.0.0
+ */
+public class ClickThrottle {
+
+    private final long viewerCooldownNanos;
+    private final Map<HumanEntity, ViewerClicks> viewers = new WeakHashMap<>();
+
+    /**
+     * Creates a new ClickThrottle.
+     *
+     * @param viewerCooldownMillis The minimum time between two clicks of the same viewer (0 = unlimited).
+     */
+    public ClickThrottle(long viewerCooldownMillis) {
+        this.viewerCooldownNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, viewerCooldownMillis));
+    }
+
+    /**
+     * Checks whether a click should be handled and records it if so.
+     *
+     * @param viewer The player who clicked.
+     * @param button The clicked button.
+     * @return {@code true} if the click is allowed; {@code false} if it should be dropped.
+     */
+    public boolean tryClick(@NotNull HumanEntity viewer, @NotNull GUIButton button) {
+        long buttonCooldownNanos = TimeUnit.MILLISECONDS.toNanos(button.getClickCooldown());
+
+        // Fast path: nothing to limit, no state needed
+        if (viewerCooldownNanos == 0 && buttonCooldownNanos == 0) {
+            return true;
+        }
+
+        long now = System.nanoTime();
+        ViewerClicks clicks = viewers.computeIfAbsent(viewer, v -> new ViewerClicks());
+
+        if (clicks.hasClicked && now - clicks.lastClick < viewerCooldownNanos) {
+            return false;
+        }
+
+        if (buttonCooldownNanos > 0) {
+            Long lastButtonClick = clicks.buttonClicks.get(button.getActionId());
+            if (lastButtonClick != null && now - lastButtonClick < buttonCooldownNanos) {
+                return false;
+            }
+            clicks.buttonClicks.put(button.getActionId(), now);
+        }
+
+        clicks.lastClick = now;
+        clicks.hasClicked = true;
+        return true;
+    }
+
+    /**
+     * @return The viewer cooldown in milliseconds.
+     */
+    public long getViewerCooldown() {
+        return TimeUnit.NANOSECONDS.toMillis(viewerCooldownNanos);
+    }
+
+    private static final class ViewerClicks {
+        private long lastClick;
+        private boolean hasClicked;
+        private final Map<String, Long> buttonClicks = new HashMap<>();
+    }
+}
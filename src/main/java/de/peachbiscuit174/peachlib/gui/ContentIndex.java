@@ -0,0 +1,205 @@
+package de.peachbiscuit174.peachlib.gui;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable index over the content buttons of a {@link PaginatedGUI}.
+ * <p>
+ * Holds cached sort orders per metadata key and a sorted term array for prefix search.
+ * The index is rebuilt lazily whenever the content changes; all lookups work on
+ * content positions ({@code int}) instead of copying button lists.
+ * </p>
+ *
+ * @author peachbiscuit174
+ * @since 1.0.0
+ */
+final class ContentIndex {
+
+    private final List<GUIButton> buttons;
+    private final int[] identity;
+    private final Map<String, int[]> sortCache = new HashMap<>();
+
+    // Prefix index: all words of all buttons, sorted, with the position of their button
+    private final String[] terms;
+    private final int[] termOwners;
+    private final String[][] wordsByButton;
+
+    ContentIndex(@NotNull List<GUIButton> buttons, @NotNull String searchKey) {
+        this.buttons = List.copyOf(buttons);
+        this.identity = new int[this.buttons.size()];
+        this.wordsByButton = new String[this.buttons.size()][];
+
+        List<Term> allTerms = new ArrayList<>();
+        for (int i = 0; i < this.buttons.size(); i++) {
+            identity[i] = i;
+
+            GUIButton button = this.buttons.get(i);
+            Object searchValue = button.getMetadata(searchKey);
+            String[] words = tokenize(searchValue != null ? searchValue.toString() : button.getActionId());
+            wordsByButton[i] = words;
+            for (String word : words) {
+                allTerms.add(new Term(word, i));
+            }
+        }
+
+        allTerms.sort(Comparator.comparing(Term::word));
+        this.terms = new String[allTerms.size()];
+        this.termOwners = new int[allTerms.size()];
+        for (int i = 0; i < allTerms.size(); i++) {
+            terms[i] = allTerms.get(i).word();
+            termOwners[i] = allTerms.get(i).owner();
+        }
+    }
+
+    int size() {
+        return buttons.size();
+    }
+
+    @NotNull GUIButton get(int position) {
+        return buttons.get(position);
+    }
+
+    /**
+     * @return All positions in insertion order. Must not be modified.
+     */
+    int[] identity() {
+        return identity;
+    }
+
+    /**
+     * Returns the positions sorted by a metadata value. Buttons without the value are placed last,
+     * ties keep their insertion order. The result is cached and must not be modified.
+     */
+    int[] sorted(@NotNull String metadataKey, boolean ascending) {
+        return sortCache.computeIfAbsent(metadataKey + (ascending ? "+" : "-"), k -> {
+            Object[] values = new Object[buttons.size()];
+            Integer[] order = new Integer[buttons.size()];
+            for (int i = 0; i < order.length; i++) {
+                values[i] = buttons.get(i).getMetadata(metadataKey);
+                order[i] = i;
+            }
+
+            Arrays.sort(order, (a, b) -> {
+                Object va = values[a];
+                Object vb = values[b];
+                if (va == null || vb == null) {
+                    return va == null ? (vb == null ? 0 : 1) : -1;
+                }
+                int result = compareValues(va, vb);
+                return ascending ? result : -result;
+            });
+
+            int[] result = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                result[i] = order[i];
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Returns the positions of all buttons that have a word starting with every query token.
+     */
+    @NotNull BitSet search(String[] tokens) {
+        BitSet result = null;
+        for (String token : tokens) {
+            BitSet matches = new BitSet(buttons.size());
+            for (int i = lowerBound(token); i < terms.length && terms[i].startsWith(token); i++) {
+                matches.set(termOwners[i]);
+            }
+
+            if (result == null) {
+                result = matches;
+            } else {
+                result.and(matches);
+            }
+        }
+        return result != null ? result : new BitSet();
+    }
+
+    /**
+     * Checks a single button against the query tokens. Used to refine a previous search result.
+     */
+    boolean matches(int position, String[] tokens) {
+        String[] words = wordsByButton[position];
+        for (String token : tokens) {
+            boolean found = false;
+            for (String word : words) {
+                if (word.startsWith(token)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) return false;
+        }
+        return true;
+    }
+
+    private int lowerBound(@NotNull String prefix) {
+        int low = 0;
+        int high = terms.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (terms[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Splits a text into lowercase words. Used for both indexed texts and queries.
+     */
+    static String[] tokenize(@Nullable String text) {
+        if (text == null) return new String[0];
+        String trimmed = text.trim().toLowerCase(Locale.ROOT);
+        if (trimmed.isEmpty()) return new String[0];
+        return trimmed.split("\\s+");
+    }
+
+    /**
+     * Orders values by type rank first (numbers, then other comparables grouped by class, then
+     * everything else as text) and only then within the rank. This keeps the order consistent
+     * for mixed metadata types, which a sort requires.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static int compareValues(@NotNull Object a, @NotNull Object b) {
+        int rankA = rank(a);
+        int rankB = rank(b);
+        if (rankA != rankB) {
+            return Integer.compare(rankA, rankB);
+        }
+
+        if (rankA == 0) {
+            return Double.compare(((Number) a).doubleValue(), ((Number) b).doubleValue());
+        }
+        if (rankA == 1) {
+            if (a.getClass() != b.getClass()) {
+                return a.getClass().getName().compareTo(b.getClass().getName());
+            }
+            return ((Comparable) a).compareTo(b);
+        }
+        return String.valueOf(a).compareTo(String.valueOf(b));
+    }
+
+    private static int rank(@NotNull Object value) {
+        if (value instanceof Number) return 0;
+        if (value instanceof Comparable && !(value instanceof String)) return 1;
+        return 2;
+    }
+
+    private record Term(String word, int owner) {
+    }
+}
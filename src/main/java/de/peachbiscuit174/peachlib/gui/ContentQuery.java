@@ -0,0 +1,131 @@
+package de.peachbiscuit174.peachlib.gui;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.Predicate;
+
+/**
+ * Sort, filter and search settings applied to the content of a {@link PaginatedGUI}.
+ * <p>
+ * The resolved view (content positions in display order) is cached until a setting or the
+ * underlying {@link ContentIndex} changes. Searches that refine the previous query
+ * (e.g. "dia" to "diam") only re-check the previous matches instead of the whole content.
+ * </p>
+ *
+ * @author peachbiscuit174
+ * @since 1.0.0
+ */
+final class ContentQuery {
+
+    private String sortKey;
+    private boolean ascending = true;
+    private Predicate<GUIButton> filter;
+    private String search = "";
+
+    // Caches, bound to the index they were computed for
+    private ContentIndex cachedIndex;
+    private int[] cachedView;
+    private String lastSearch;
+    private BitSet lastSearchMatches;
+
+    ContentQuery() {
+    }
+
+    /**
+     * Creates a copy of the settings (not the caches) of another query.
+     */
+    ContentQuery(@NotNull ContentQuery template) {
+        this.sortKey = template.sortKey;
+        this.ascending = template.ascending;
+        this.filter = template.filter;
+        this.search = template.search;
+    }
+
+    void setSort(@Nullable String sortKey, boolean ascending) {
+        this.sortKey = sortKey;
+        this.ascending = ascending;
+        this.cachedView = null;
+    }
+
+    void setFilter(@Nullable Predicate<GUIButton> filter) {
+        this.filter = filter;
+        this.cachedView = null;
+    }
+
+    void setSearch(@Nullable String search) {
+        this.search = search != null ? search : "";
+        this.cachedView = null;
+    }
+
+    @NotNull String getSearch() {
+        return search;
+    }
+
+    /**
+     * Resolves the content positions to display, in order.
+     *
+     * @param index The current content index.
+     * @return The positions of the visible buttons. Must not be modified.
+     */
+    int[] resolve(@NotNull ContentIndex index) {
+        if (cachedView != null && cachedIndex == index) {
+            return cachedView;
+        }
+        if (cachedIndex != index) {
+            lastSearch = null;
+            lastSearchMatches = null;
+        }
+
+        int[] order = sortKey != null ? index.sorted(sortKey, ascending) : index.identity();
+        BitSet matches = resolveSearch(index);
+
+        if (matches == null && filter == null) {
+            cachedView = order;
+        } else {
+            int[] view = new int[order.length];
+            int size = 0;
+            for (int position : order) {
+                if (matches != null && !matches.get(position)) continue;
+                if (filter != null && !filter.test(index.get(position))) continue;
+                view[size++] = position;
+            }
+            cachedView = size == view.length ? view : Arrays.copyOf(view, size);
+        }
+
+        cachedIndex = index;
+        return cachedView;
+    }
+
+    /**
+     * @return The matching positions or {@code null} if no search is active.
+     */
+    private @Nullable BitSet resolveSearch(@NotNull ContentIndex index) {
+        String[] tokens = ContentIndex.tokenize(search);
+        if (tokens.length == 0) {
+            lastSearch = null;
+            lastSearchMatches = null;
+            return null;
+        }
+
+        String normalized = String.join(" ", tokens);
+        BitSet matches;
+        if (lastSearchMatches != null && normalized.startsWith(lastSearch)) {
+            // Refinement: only the previous matches can still match
+            matches = new BitSet(index.size());
+            for (int position = lastSearchMatches.nextSetBit(0); position >= 0; position = lastSearchMatches.nextSetBit(position + 1)) {
+                if (index.matches(position, tokens)) {
+                    matches.set(position);
+                }
+            }
+        } else {
+            matches = index.search(tokens);
+        }
+
+        lastSearch = normalized;
+        lastSearchMatches = matches;
+        return matches;
+    }
+}
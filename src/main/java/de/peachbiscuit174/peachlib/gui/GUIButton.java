@@ -2,9 +2,12 @@ package de.peachbiscuit174.peachlib.gui;
 
 import de.peachbiscuit174.peachlib.items.ItemBuilder;
 import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Consumer;
 
 /**
@@ -17,6 +20,8 @@ public class GUIButton {
     private final String actionId;
     private final Consumer<InventoryClickEvent> clickAction;
     private boolean giveToPlayerOnClick = false;
+    private long clickCooldown = 0;
+    private Map<String, Object> metadata;
 
     /**
      * Constructs a new GUIButton.
@@ -53,6 +58,64 @@ public class GUIButton {
         return giveToPlayerOnClick;
     }
 
+    /**
+     * Sets the minimum time between two clicks of the same player on this button.
+     * <p>
+     * Excess clicks are dropped before the click action runs or any item is given.
+     * The cooldown is tracked per action ID, so buttons sharing an ID share the cooldown.
+     * </p>
+     *
+     * @param cooldownMillis The cooldown in milliseconds (0 = unlimited).
+     * @return The current GUIButton instance for method chaining.
+     */
+    public GUIButton setClickCooldown(long cooldownMillis) {
+        this.clickCooldown = Math.max(0, cooldownMillis);
+        return this;
+    }
+
+    /**
+     * @return The click cooldown of this button in milliseconds.
+     */
+    public long getClickCooldown() {
+        return clickCooldown;
+    }
+
+    /**
+     * Attaches a metadata value to this button.
+     * <p>
+     * Metadata is used for sorting, filtering and searching in {@link PaginatedGUI}
+     * (e.g. {@code "price"}, {@code "category"} or {@code "search"}).
+     * Values used for sorting should implement {@link Comparable}.
+     * </p>
+     *
+     * @param key   The metadata key.
+     * @param value The value, or {@code null} to remove the key.
+     * @return The current GUIButton instance for method chaining.
+     */
+    public GUIButton setMetadata(@NotNull String key, @Nullable Object value) {
+        if (value == null) {
+            if (metadata != null) {
+                metadata.remove(key);
+            }
+            return this;
+        }
+        if (metadata == null) {
+            metadata = new HashMap<>(4);
+        }
+        metadata.put(key, value);
+        return this;
+    }
+
+    /**
+     * Returns a metadata value of this button.
+     *
+     * @param key The metadata key.
+     * @return The value or {@code null} if not set.
+     */
+    public @Nullable Object getMetadata(@NotNull String key) {
+        return metadata != null ? metadata.get(key) : null;
+    }
+
     /**
      * Returns a <b>copy</b> of the current ItemBuilder.
      *
@@ -62,6 +125,16 @@ public class GUIButton {
         return itemBuilder.copy();
     }
 
+    /**
+     * Builds the item of this button without copying the builder first.
+     * {@link ItemBuilder#build()} does not modify the builder, so no defensive copy is needed.
+     *
+     * @return A new clean {@link ItemStack}.
+     */
+    @NotNull ItemStack buildItem() {
+        return itemBuilder.build();
+    }
+
     /**
      * Updates the ItemBuilder for this button.
      *
@@ -2,16 +2,23 @@ package de.peachbiscuit174.peachlib.gui;
 
 import de.peachbiscuit174.peachlib.api.player.PlayerManagerAPI;
 import de.peachbiscuit174.peachlib.items.ItemTag;
+import de.peachbiscuit174.peachlib.player.ItemDelivery;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.inventory.InventoryOpenEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 
 /**
  * Handles security and interaction logic for {@link InventoryGUI}.
- * Now integrates with {@link PlayerManagerAPI} to give items directly.
+ * Giveaway buttons deliver their items through the batched {@link ItemDelivery} queue
+ * (see also {@link PlayerManagerAPI#deliverItem(ItemStack)}).
  */
 public class GUIListener implements Listener {
 
@@ -19,35 +26,50 @@ public class GUIListener implements Listener {
     public void onInventoryClick(InventoryClickEvent event) {
         if (!(event.getWhoClicked() instanceof Player player)) return;
 
-        ItemStack clickedItem = event.getCurrentItem();
+        // Decide by holder first: no ItemMeta access for PeachLib GUI slots
+        InventoryHolder holder = event.getInventory().getHolder(false);
+        if (holder instanceof InventoryGUI gui) {
+            GUIButton button = gui.getButton(event.getRawSlot());
 
-        // Security check: Block movement if protected
-        if (clickedItem != null && ItemTag.isItemTag(clickedItem, InventoryGUI.PROTECTED_TAG)) {
-            event.setCancelled(true);
-        }
+            if (button != null) {
+                // Every button slot is protected
+                event.setCancelled(true);
 
-        // GUI Logic
-        if (event.getInventory().getHolder() instanceof InventoryGUI gui) {
-            GUIButton button = gui.getButtons().get(event.getRawSlot());
+                // Drop click spam before any item is built or handler runs
+                if (!gui.getClickThrottle().tryClick(player, button)) {
+                    return;
+                }
 
-            if (button != null) {
                 // Feature: Automatically give item to player
                 if (button.isGiveToPlayerOnClick()) {
-                    PlayerManagerAPI api = new PlayerManagerAPI(player);
-                    // Build a fresh item from the button's builder (clean, no GUI tags)
-                    ItemStack cleanItem = button.getItemBuilder().build();
-                    api.giveOrDropItem(cleanItem);
+                    // Build a fresh item from the button's builder (clean, no GUI tags).
+                    // Deliveries are merged per tick, overflow goes to the mailbox instead of the ground.
+                    ItemDelivery.queue(player, button.buildItem());
                 }
 
                 // Execute custom click logic
                 button.onClick(event);
+                return;
             }
         }
+
+        // Fallback: protected items outside of a button slot (e.g. in the player inventory)
+        if (isProtectedItem(event.getCurrentItem())) {
+            event.setCancelled(true);
+        }
+    }
+
+    /**
+     * Checks for the GUI protection tag. Items without meta are skipped
+     * before any ItemMeta is cloned.
+     */
+    private boolean isProtectedItem(ItemStack itemStack) {
+        return itemStack != null && itemStack.hasItemMeta() && ItemTag.isItemTag(itemStack, InventoryGUI.PROTECTED_TAG_KEY);
     }
 
     @EventHandler
     public void onInventoryDrag(InventoryDragEvent event) {
-        if (!(event.getInventory().getHolder() instanceof InventoryGUI gui)) {
+        if (!(event.getInventory().getHolder(false) instanceof InventoryGUI gui)) {
             return;
         }
 
@@ -58,4 +80,31 @@ public class GUIListener implements Listener {
             }
         }
     }
-}
\ No newline at end of file
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryOpen(InventoryOpenEvent event) {
+        if (event.getInventory().getHolder(false) instanceof InventoryGUI gui) {
+            GUIRegistry.track(event.getPlayer(), gui);
+            GUITicker.resume(gui);
+        }
+    }
+
+    @EventHandler
+    public void onInventoryClose(InventoryCloseEvent event) {
+        if (!(event.getInventory().getHolder(false) instanceof InventoryGUI gui)) {
+            return;
+        }
+
+        GUIRegistry.untrack(event.getPlayer(), gui);
+
+        // The closing player is still listed as a viewer during this event
+        if (event.getInventory().getViewers().size() <= 1) {
+            GUITicker.suspend(gui);
+        }
+    }
+
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        GUIRegistry.untrack(event.getPlayer().getUniqueId());
+    }
+}
@@ -0,0 +1,181 @@
+package de.peachbiscuit174.peachlib.gui;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Tracks which {@link InventoryGUI} each player currently has open.
+ * <p>
+ * Entries are keyed by the viewer's UUID and hold the GUI only weakly, so a GUI that is no
+ * longer referenced elsewhere can always be collected. Entries are removed automatically
+ * when the inventory is closed or the player quits (see {@link GUIListener}).
+ * All methods must be called from the main thread.
+ * </p>
+ *
+ * <p><b>Example:</b></p>
+ * <pre>
+ * // Re-render every open page of a shop after a price change
+ * GUIRegistry.refreshViewersOf(shopGUI);
+ * </pre>
+ *
+ * @author peachbiscuit174
+ * @since 1.0.0
+ */
+public final class GUIRegistry {
+
+    private static final Map<UUID, WeakReference<InventoryGUI>> openGUIs = new HashMap<>();
+
+    private GUIRegistry() {
+    }
+
+    /**
+     * Registers the GUI as opened by the viewer. Called by {@link GUIListener}.
+     */
+    static void track(@NotNull HumanEntity viewer, @NotNull InventoryGUI gui) {
+        openGUIs.put(viewer.getUniqueId(), new WeakReference<>(gui));
+    }
+
+    /**
+     * Removes the viewer's entry if it still points to the given GUI. Called by {@link GUIListener}.
+     */
+    static void untrack(@NotNull HumanEntity viewer, @NotNull InventoryGUI gui) {
+        WeakReference<InventoryGUI> reference = openGUIs.get(viewer.getUniqueId());
+        if (reference != null && (reference.get() == gui || reference.get() == null)) {
+            openGUIs.remove(viewer.getUniqueId());
+        }
+    }
+
+    /**
+     * Removes the viewer's entry regardless of the GUI. Called by {@link GUIListener} on quit.
+     */
+    static void untrack(@NotNull UUID viewer) {
+        openGUIs.remove(viewer);
+    }
+
+    /**
+     * Returns the GUI the viewer currently has open.
+     *
+     * @param viewer The player to check.
+     * @return The open {@link InventoryGUI} or {@code null} if none is open.
+     */
+    public static @Nullable InventoryGUI getOpenGUI(@NotNull HumanEntity viewer) {
+        WeakReference<InventoryGUI> reference = openGUIs.get(viewer.getUniqueId());
+        return reference != null ? reference.get() : null;
+    }
+
+    /**
+     * Returns all currently open GUIs. GUIs with several viewers are only listed once.
+     *
+     * @return A new list of open {@link InventoryGUI}s.
+     */
+    public static @NotNull List<InventoryGUI> getOpenGUIs() {
+        Set<InventoryGUI> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (WeakReference<InventoryGUI> reference : openGUIs.values()) {
+            InventoryGUI gui = reference.get();
+            if (gui != null) {
+                distinct.add(gui);
+            }
+        }
+        return new ArrayList<>(distinct);
+    }
+
+    /**
+     * Calls {@link InventoryGUI#refresh()} on every open GUI matching the filter.
+     * Each GUI is refreshed once, no matter how many players view it.
+     *
+     * @param filter Selects the GUIs to refresh.
+     * @return The number of refreshed GUIs.
+     */
+    public static int refreshAll(@NotNull Predicate<InventoryGUI> filter) {
+        int refreshed = 0;
+        for (InventoryGUI gui : getOpenGUIs()) {
+            if (filter.test(gui)) {
+                gui.refresh();
+                refreshed++;
+            }
+        }
+        return refreshed;
+    }
+
+    /**
+     * Refreshes every open GUI created by the given owner
+     * (e.g. all open pages of a {@link PaginatedGUI}, see {@link InventoryGUI#getOwner()}).
+     *
+     * @param owner The owner whose open GUIs should be refreshed.
+     * @return The number of refreshed GUIs.
+     */
+    public static int refreshViewersOf(@NotNull Object owner) {
+        return refreshAll(gui -> gui.getOwner() == owner);
+    }
+
+    /**
+     * Returns the number of tracked viewer entries.
+     * <p>
+     * On a healthy server this equals the number of players with a PeachLib GUI open.
+     * </p>
+     *
+     * @return The number of tracked entries.
+     */
+    public static int getTrackedCount() {
+        return openGUIs.size();
+    }
+
+    /**
+     * Leak diagnostic: counts entries whose GUI has been collected, whose player is offline,
+     * or whose player no longer views the tracked GUI. Should always be {@code 0}.
+     *
+     * @return The number of stale entries.
+     */
+    public static int getStaleCount() {
+        int stale = 0;
+        for (Map.Entry<UUID, WeakReference<InventoryGUI>> entry : openGUIs.entrySet()) {
+            if (isStale(entry.getKey(), entry.getValue())) {
+                stale++;
+            }
+        }
+        return stale;
+    }
+
+    /**
+     * Removes all stale entries (see {@link #getStaleCount()}).
+     *
+     * @return The number of removed entries.
+     */
+    public static int purgeStale() {
+        int removed = 0;
+        Iterator<Map.Entry<UUID, WeakReference<InventoryGUI>>> iterator = openGUIs.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, WeakReference<InventoryGUI>> entry = iterator.next();
+            if (isStale(entry.getKey(), entry.getValue())) {
+                iterator.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private static boolean isStale(@NotNull UUID viewer, @NotNull WeakReference<InventoryGUI> reference) {
+        InventoryGUI gui = reference.get();
+        if (gui == null) return true;
+
+        Player player = Bukkit.getPlayer(viewer);
+        if (player == null) return true;
+
+        return player.getOpenInventory().getTopInventory().getHolder(false) != gui;
+    }
+}
@@ -0,0 +1,231 @@
+package de.peachbiscuit174.peachlib.gui;
+
+import de.peachbiscuit174.peachlib.items.ItemBuilder;
+import de.peachbiscuit174.peachlib.items.ItemLore;
+import de.peachbiscuit174.peachlib.text.ComponentCache;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Material;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * A precompiled, immutable GUI layout, usually loaded from a YAML file via {@link GUITemplateLoader}.
+ * <p>
+ * A template uses the same model as {@link InventoryGUI#shape(String...)} and
+ * {@link InventoryGUI#map(char, GUIButton)}. All MiniMessage strings are parsed and all
+ * items are rendered once when the template is compiled. Opening a template only copies
+ * the prepared items into a new inventory.
+ * </p>
+ *
+ * <p><b>File format:</b></p>
+ * <pre>
+ * title: "&lt;gold&gt;Shop"
+ * rows: 3                      # optional, defaults to the number of shape rows
+ * shape:
+ *   - "#########"
+ *   - "#   S   #"
+ *   - "#########"
+ * items:
+ *   '#':
+ *     material: GRAY_STAINED_GLASS_PANE
+ *     name: " "
+ *   'S':
+ *     material: DIAMOND_SWORD
+ *     amount: 1
+ *     name: "&lt;aqua&gt;Sword"
+ *     lore:
+ *       - "&lt;gray&gt;Costs 10 coins"
+ *     custom-model-data: 5
+ *     action: buy_sword        # bound via GUITemplateLoader#registerAction, or "close" / "open:&lt;id&gt;"
+ *     give: false              # give a clean copy of the item on click
+ *     click-cooldown: 200      # milliseconds
+ * </pre>
+ *
+ * @author peachbiscuit174
+ * @since 1.0.0
+ */
+public class GUITemplate {
+
+    private final String id;
+    private final int rows;
+    private final Component title;
+    private final GUIButton[] buttons;
+    private final ItemStack[] renderedItems;
+
+    private GUITemplate(@NotNull String id, int rows, @NotNull Component title, @NotNull GUIButton[] buttons) {
+        this.id = id;
+        this.rows = rows;
+        this.title = title;
+        this.buttons = buttons;
+        this.renderedItems = new ItemStack[buttons.length];
+
+        for (int slot = 0; slot < buttons.length; slot++) {
+            if (buttons[slot] != null) {
+                renderedItems[slot] = InventoryGUI.renderButton(buttons[slot]);
+            }
+        }
+    }
+
+    /**
+     * Compiles a template from a configuration section.
+     *
+     * @param id             The template ID (usually the file name without extension).
+     * @param section        The section containing title, rows, shape and items.
+     * @param actionResolver Resolves the {@code action} names of items into click actions.
+     * @param logger         Logger for configuration errors (invalid materials, ...).
+     * @return The compiled template.
+     */
+    public static @NotNull GUITemplate compile(@NotNull String id, @NotNull ConfigurationSection section,
+                                               @NotNull Function<String, Consumer<InventoryClickEvent>> actionResolver,
+                                               @NotNull Logger logger) {
+        List<String> shape = section.getStringList("shape");
+        int rows = Math.max(1, Math.min(6, section.getInt("rows", Math.max(1, shape.size()))));
+        Component title = ComponentCache.parse(section.getString("title", id));
+
+        // Compile every mapped character once, shared by all its slots
+        Map<Character, GUIButton> mapping = new HashMap<>();
+        ConfigurationSection items = section.getConfigurationSection("items");
+        if (items != null) {
+            for (String key : items.getKeys(false)) {
+                ConfigurationSection itemSection = items.getConfigurationSection(key);
+                if (key.length() != 1 || itemSection == null) {
+                    logger.warning("GUI template '" + id + "': item key '" + key + "' must be a single character.");
+                    continue;
+                }
+
+                GUIButton button = compileButton(id, key, itemSection, actionResolver, logger);
+                if (button != null) {
+                    mapping.put(key.charAt(0), button);
+                }
+            }
+        }
+
+        GUIButton[] buttons = new GUIButton[rows * 9];
+        for (int row = 0; row < Math.min(rows, shape.size()); row++) {
+            String rowString = shape.get(row);
+            for (int col = 0; col < Math.min(9, rowString.length()); col++) {
+                GUIButton button = mapping.get(rowString.charAt(col));
+                if (button != null) {
+                    buttons[(row * 9) + col] = button;
+                }
+            }
+        }
+
+        return new GUITemplate(id, rows, title, buttons);
+    }
+
+    private static @Nullable GUIButton compileButton(@NotNull String id, @NotNull String key, @NotNull ConfigurationSection section,
+                                                     @NotNull Function<String, Consumer<InventoryClickEvent>> actionResolver,
+                                                     @NotNull Logger logger) {
+        Material material = Material.matchMaterial(section.getString("material", "STONE"));
+        if (material == null || !material.isItem()) {
+            logger.warning("GUI template '" + id + "': invalid material for item '" + key + "'.");
+            return null;
+        }
+
+        int amount = Math.max(1, Math.min(material.getMaxStackSize(), section.getInt("amount", 1)));
+        ItemBuilder builder = new ItemBuilder(new ItemStack(material, amount));
+
+        String name = section.getString("name");
+        if (name != null) {
+            builder.setDisplayName(name);
+        }
+
+        List<String> loreLines = section.getStringList("lore");
+        if (!loreLines.isEmpty()) {
+            ItemLore lore = new ItemLore();
+            for (String line : loreLines) {
+                lore.add(line);
+            }
+            builder.lore(lore);
+        }
+
+        if (section.contains("custom-model-data")) {
+            builder.setCustomModelData((float) section.getDouble("custom-model-data"));
+        }
+
+        String action = section.getString("action");
+        Consumer<InventoryClickEvent> clickAction = action != null ? actionResolver.apply(action) : null;
+        String actionId = toActionId(id, key.charAt(0), action);
+
+        return new GUIButton(builder, actionId, clickAction)
+                .giveToPlayerOnClick(section.getBoolean("give", false))
+                .setClickCooldown(section.getLong("click-cooldown", 0));
+    }
+
+    /**
+     * Builds the action ID of a template button. The ID ends up in a {@link org.bukkit.NamespacedKey},
+     * so it only uses valid key characters; the action name itself is only used to resolve the click.
+     */
+    private static @NotNull String toActionId(@NotNull String id, char key, @Nullable String action) {
+        String actionId = "template_" + sanitize(id) + "_" + (int) key;
+        return action != null ? actionId + "_" + Integer.toHexString(action.hashCode()) : actionId;
+    }
+
+    private static @NotNull String sanitize(@NotNull String text) {
+        StringBuilder result = new StringBuilder(text.length());
+        for (char c : text.toLowerCase(Locale.ROOT).toCharArray()) {
+            boolean valid = (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '.' || c == '_' || c == '-' || c == '/';
+            result.append(valid ? c : '_');
+        }
+        return result.toString();
+    }
+
+    /**
+     * Creates a new {@link InventoryGUI} from this template.
+     * <p>
+     * No MiniMessage parsing or item building happens here. The returned GUI can be
+     * modified further (e.g. dynamic buttons) before it is opened.
+     * </p>
+     *
+     * @return A new InventoryGUI owned by this template.
+     */
+    public @NotNull InventoryGUI createGUI() {
+        InventoryGUI gui = new InventoryGUI(rows, title);
+        gui.setOwner(this);
+        for (int slot = 0; slot < buttons.length; slot++) {
+            if (buttons[slot] != null) {
+                gui.setRenderedButton(slot, buttons[slot], renderedItems[slot]);
+            }
+        }
+        return gui;
+    }
+
+    /**
+     * Creates a new GUI from this template and opens it for the player.
+     *
+     * @param player The player to open the inventory for.
+     * @return The opened InventoryGUI.
+     */
+    public @NotNull InventoryGUI open(@NotNull Player player) {
+        InventoryGUI gui = createGUI();
+        gui.open(player);
+        return gui;
+    }
+
+    /**
+     * @return The ID of this template.
+     */
+    public @NotNull String getId() {
+        return id;
+    }
+
+    /**
+     * @return The number of rows of this template.
+     */
+    public int getRows() {
+        return rows;
+    }
+}
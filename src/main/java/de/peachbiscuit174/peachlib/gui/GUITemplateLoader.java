@@ -0,0 +1,251 @@
+package de.peachbiscuit174.peachlib.gui;
+
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Loads {@link GUITemplate}s from a folder of YAML files and keeps them up to date.
+ * <p>
+ * Every {@code .yml} file in the folder defines one menu; the file name (without extension)
+ * is the template ID. Templates are compiled once on load. {@link #reloadChanged()} only
+ * recompiles files that were added or modified since the last load, so unaffected menus are
+ * left untouched.
+ * </p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>
+ * GUITemplateLoader menus = new GUITemplateLoader(plugin, new File(plugin.getDataFolder(), "menus"));
+ * menus.registerAction("buy_sword", event -&gt; shop.buy(event.getWhoClicked(), "sword"));
+ * menus.loadAll();
+ * menus.open("shop", player);
+ * </pre>
+ *
+ * @author peachbiscuit174
+ * @since 1.0.0
+ */
+public class GUITemplateLoader {
+
+    private final Plugin plugin;
+    private final File folder;
+    private final Map<String, Consumer<InventoryClickEvent>> actions = new HashMap<>();
+    private final Map<String, LoadedTemplate> templates = new HashMap<>();
+
+    /**
+     * Creates a new loader. The folder is created if it does not exist.
+     *
+     * @param plugin The plugin owning the menus (used for logging).
+     * @param folder The folder containing the menu files.
+     */
+    public GUITemplateLoader(@NotNull Plugin plugin, @NotNull File folder) {
+        this.plugin = plugin;
+        this.folder = folder;
+        if (!folder.exists()) {
+            folder.mkdirs();
+        }
+    }
+
+    /**
+     * Binds a click action to an action name used in the menu files.
+     * <p>
+     * Actions are looked up on click, so they can be registered before or after
+     * loading and survive reloads.
+     * </p>
+     *
+     * @param name   The action name (value of {@code action} in the file).
+     * @param action The logic to execute on click.
+     * @return The current instance for chaining.
+     */
+    public GUITemplateLoader registerAction(@NotNull String name, @NotNull Consumer<InventoryClickEvent> action) {
+        actions.put(name, action);
+        return this;
+    }
+
+    /**
+     * Loads and compiles all menu files, replacing previously loaded templates.
+     * <p>
+     * A file that cannot be loaded is logged and skipped; if a template with the same ID
+     * was loaded before, that version is kept.
+     * </p>
+     *
+     * @return The number of loaded templates.
+     */
+    public int loadAll() {
+        Map<String, LoadedTemplate> loaded = new HashMap<>();
+        for (File file : listFiles()) {
+            String id = toId(file);
+            LoadedTemplate template = load(file);
+            if (template == null) {
+                template = templates.get(id);
+            }
+            if (template != null) {
+                loaded.put(id, template);
+            }
+        }
+
+        templates.clear();
+        templates.putAll(loaded);
+        return templates.size();
+    }
+
+    /**
+     * Recompiles only the menu files that were added or modified since they were last loaded
+     * and removes templates whose file has been deleted.
+     *
+     * @return The IDs of all added, recompiled or removed templates.
+     */
+    public @NotNull Set<String> reloadChanged() {
+        Set<String> changed = new HashSet<>();
+        Set<String> present = new HashSet<>();
+
+        for (File file : listFiles()) {
+            String id = toId(file);
+            present.add(id);
+
+            LoadedTemplate loaded = templates.get(id);
+            if (loaded == null || loaded.lastModified() != file.lastModified()) {
+                LoadedTemplate template = load(file);
+                if (template != null) {
+                    templates.put(id, template);
+                    changed.add(id);
+                }
+            }
+        }
+
+        for (String id : new ArrayList<>(templates.keySet())) {
+            if (!present.contains(id)) {
+                templates.remove(id);
+                changed.add(id);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Recompiles a single menu file. If the file cannot be loaded, the previous template is kept.
+     *
+     * @param id The template ID.
+     * @return {@code true} if the file exists and was loaded.
+     */
+    public boolean reload(@NotNull String id) {
+        File file = new File(folder, id + ".yml");
+        if (!file.isFile()) {
+            templates.remove(id);
+            return false;
+        }
+
+        LoadedTemplate template = load(file);
+        if (template == null) return false;
+        templates.put(id, template);
+        return true;
+    }
+
+    /**
+     * Returns a compiled template.
+     *
+     * @param id The template ID.
+     * @return The {@link GUITemplate} or {@code null} if no such menu is loaded.
+     */
+    public @Nullable GUITemplate getTemplate(@NotNull String id) {
+        LoadedTemplate loaded = templates.get(id);
+        return loaded != null ? loaded.template() : null;
+    }
+
+    /**
+     * Opens a menu for the player.
+     *
+     * @param id     The template ID.
+     * @param player The player to open the menu for.
+     * @return The opened {@link InventoryGUI} or {@code null} if no such menu is loaded.
+     */
+    public @Nullable InventoryGUI open(@NotNull String id, @NotNull Player player) {
+        GUITemplate template = getTemplate(id);
+        return template != null ? template.open(player) : null;
+    }
+
+    /**
+     * @return The IDs of all loaded templates.
+     */
+    public @NotNull Set<String> getTemplateIds() {
+        return new HashSet<>(templates.keySet());
+    }
+
+    /**
+     * Compiles a menu file.
+     *
+     * @return The compiled template or {@code null} if the file is invalid (the error is logged).
+     */
+    private @Nullable LoadedTemplate load(@NotNull File file) {
+        String id = toId(file);
+        long lastModified = file.lastModified();
+        try {
+            // Not loadConfiguration: it swallows syntax errors and returns an empty configuration
+            YamlConfiguration config = new YamlConfiguration();
+            config.load(file);
+            GUITemplate template = GUITemplate.compile(id, config, this::resolveAction, plugin.getLogger());
+            return new LoadedTemplate(template, lastModified);
+        } catch (IOException | InvalidConfigurationException | RuntimeException e) {
+            plugin.getLogger().warning("Could not load GUI template '" + id + "': " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Resolves an action name into a click action. Built-in actions are
+     * {@code close} and {@code open:<id>}; all others are looked up on click.
+     */
+    private @NotNull Consumer<InventoryClickEvent> resolveAction(@NotNull String name) {
+        if (name.equals("close")) {
+            return event -> event.getWhoClicked().closeInventory();
+        }
+        if (name.startsWith("open:")) {
+            String targetId = name.substring("open:".length());
+            return event -> {
+                if (event.getWhoClicked() instanceof Player player) {
+                    open(targetId, player);
+                }
+            };
+        }
+        return event -> {
+            Consumer<InventoryClickEvent> action = actions.get(name);
+            if (action != null) {
+                action.accept(event);
+            }
+        };
+    }
+
+    private @NotNull List<File> listFiles() {
+        List<File> result = new ArrayList<>();
+        File[] files = folder.listFiles((dir, name) -> name.endsWith(".yml"));
+        if (files != null) {
+            for (File file : files) {
+                if (file.isFile()) {
+                    result.add(file);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static @NotNull String toId(@NotNull File file) {
+        String name = file.getName();
+        return name.substring(0, name.length() - ".yml".length());
+    }
+
+    private record LoadedTemplate(GUITemplate template, long lastModified) {
+    }
+}
@@ -0,0 +1,122 @@
+package de.peachbiscuit174.peachlib.gui;
+
+import de.peachbiscuit174.peachlib.PeachLib;
+import de.peachbiscuit174.peachlib.scheduler.LibraryScheduler;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Shared tick loop that drives the updaters of all open {@link InventoryGUI}s.
+ * <p>
+ * Instead of one repeating task per open inventory, every GUI with updaters and at least
+ * one viewer is placed in a single active set. One tick listener on the {@link LibraryScheduler}
+ * processes that set and is only registered while the set is not empty.
+ * A GUI whose updaters fail on {@value #MAX_FAILURES} consecutive runs has its updaters removed.
+ * All methods must be called from the main thread.
+ * </p>
+ *
+ * @author peachbiscuit174
+ * @since 1.0.0
+ */
+final class GUITicker {
+
+    private static final int MAX_FAILURES = 3;
+
+    private static final Set<InventoryGUI> activeGUIs = Collections.newSetFromMap(new IdentityHashMap<>());
+    private static final Map<InventoryGUI, Integer> failures = new IdentityHashMap<>();
+    private static final Runnable TICK_TASK = GUITicker::tick;
+    private static boolean running = false;
+    private static long currentTick = 0;
+
+    private GUITicker() {
+    }
+
+    /**
+     * Resumes the updaters of the given GUI (e.g. when a viewer opens it).
+     *
+     * @param gui The GUI to activate.
+     */
+    static void resume(@NotNull InventoryGUI gui) {
+        if (!gui.hasUpdaters()) return;
+
+        activeGUIs.add(gui);
+        if (!running) {
+            LibraryScheduler scheduler = PeachLib.getScheduler();
+            if (scheduler != null) {
+                scheduler.addTickListener(TICK_TASK);
+                running = true;
+            }
+        }
+    }
+
+    /**
+     * Suspends the updaters of the given GUI (e.g. when the last viewer closed it).
+     *
+     * @param gui The GUI to deactivate.
+     */
+    static void suspend(@NotNull InventoryGUI gui) {
+        failures.remove(gui);
+        if (activeGUIs.remove(gui) && activeGUIs.isEmpty()) {
+            stop();
+        }
+    }
+
+    /**
+     * @return The number of GUIs currently driven by the tick loop.
+     */
+    static int getActiveCount() {
+        return activeGUIs.size();
+    }
+
+    private static void stop() {
+        LibraryScheduler scheduler = PeachLib.getScheduler();
+        if (scheduler != null) {
+            scheduler.removeTickListener(TICK_TASK);
+        }
+        running = false;
+    }
+
+    private static void tick() {
+        currentTick++;
+
+        // Copy to allow updaters to open or close inventories while we iterate
+        List<InventoryGUI> snapshot = new ArrayList<>(activeGUIs);
+        for (InventoryGUI gui : snapshot) {
+            if (gui.getInventory().getViewers().isEmpty()) {
+                activeGUIs.remove(gui);
+                failures.remove(gui);
+                continue;
+            }
+
+            try {
+                gui.runUpdaters(currentTick);
+                failures.remove(gui);
+            } catch (Exception e) {
+                handleFailure(gui, e);
+            }
+        }
+
+        if (activeGUIs.isEmpty()) {
+            stop();
+        }
+    }
+
+    private static void handleFailure(@NotNull InventoryGUI gui, @NotNull Exception e) {
+        int count = failures.merge(gui, 1, Integer::sum);
+        PeachLib.getPlugin().getLogger().severe("Error in PPL GUI Updater: " + e.getMessage());
+        e.printStackTrace();
+
+        if (count >= MAX_FAILURES) {
+            PeachLib.getPlugin().getLogger().warning("Removed the updaters of a GUI after " + count + " consecutive failures.");
+            gui.clearUpdaters();
+            activeGUIs.remove(gui);
+            failures.remove(gui);
+        }
+    }
+}
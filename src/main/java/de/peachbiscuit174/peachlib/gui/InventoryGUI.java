@@ -2,16 +2,29 @@ package de.peachbiscuit174.peachlib.gui;
 
 import de.peachbiscuit174.peachlib.items.ItemBuilder;
 import de.peachbiscuit174.peachlib.items.ItemTag;
-import net.kyori.adventure.text.minimessage.MiniMessage;
+import de.peachbiscuit174.peachlib.items.TagKey;
+import de.peachbiscuit174.peachlib.text.ComponentCache;
+import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * A highly flexible GUI API for Paper plugins.
@@ -35,16 +48,34 @@ import java.util.Map;
 public class InventoryGUI implements InventoryHolder {
 
     private final Inventory inventory;
-    private final Map<Integer, GUIButton> buttons = new HashMap<>();
-    private static final MiniMessage MM = MiniMessage.miniMessage();
+    // Slot-indexed buttons for O(1) click dispatch
+    private final GUIButton[] buttons;
+    private final Map<Integer, GUIButton> buttonView = new ButtonView();
     private String[] shape;
     private final Map<Character, GUIButton> charMapping = new HashMap<>();
 
+    // Snapshot of the last item written per slot, used to skip unchanged slots
+    private final ItemStack[] renderedItems;
+    private final int[] renderedHashes;
+
+    // Periodic updaters, driven by the shared GUITicker while the GUI has viewers
+    private final List<Updater> updaters = new ArrayList<>();
+
+    private ClickThrottle clickThrottle = new ClickThrottle(0);
+
+    // The object that created this GUI (e.g. a PaginatedGUI), used for bulk operations
+    private Object owner = this;
+
     /**
      * The tag key used to identify items that should not be removed from the GUI.
      */
     public static final String PROTECTED_TAG = "gui_protected_ppl";
 
+    /**
+     * Pre-resolved handle of {@link #PROTECTED_TAG} for frequent checks.
+     */
+    public static final TagKey PROTECTED_TAG_KEY = TagKey.of(PROTECTED_TAG);
+
     /**
      * Creates a new InventoryGUI.
      *
@@ -52,8 +83,21 @@ public class InventoryGUI implements InventoryHolder {
      * @param titleMiniMessage The title using MiniMessage formatting.
      */
     public InventoryGUI(int rows, String titleMiniMessage) {
+        this(rows, ComponentCache.parse(titleMiniMessage));
+    }
+
+    /**
+     * Creates a new InventoryGUI with an already parsed title.
+     *
+     * @param rows  The number of rows (1-6).
+     * @param title The title component.
+     */
+    public InventoryGUI(int rows, @NotNull Component title) {
         int finalRows = Math.max(1, Math.min(6, rows));
-        this.inventory = Bukkit.createInventory(this, finalRows * 9, MM.deserialize(titleMiniMessage));
+        this.inventory = Bukkit.createInventory(this, finalRows * 9, title);
+        this.buttons = new GUIButton[inventory.getSize()];
+        this.renderedItems = new ItemStack[inventory.getSize()];
+        this.renderedHashes = new int[inventory.getSize()];
     }
 
     /**
@@ -63,31 +107,115 @@ public class InventoryGUI implements InventoryHolder {
      * @param button The {@link GUIButton} to place.
      */
     public void setButton(int slot, @NotNull GUIButton button) {
-        buttons.put(slot, button);
+        buttons[slot] = button;
         updateSlot(slot);
     }
 
+    /**
+     * Places a button together with an item that has already been rendered
+     * via {@link #renderButton(GUIButton)}. Used by templates to skip the item build per open.
+     */
+    void setRenderedButton(int slot, @NotNull GUIButton button, @NotNull ItemStack renderedItem) {
+        buttons[slot] = button;
+        applyRendered(slot, renderedItem);
+    }
+
+    /**
+     * Moves the button and its already rendered item from one slot to another
+     * without building the item again. The source slot keeps its content until it is overwritten.
+     * Used for row shifting in {@link ScrollingGUI}.
+     */
+    void copySlot(int fromSlot, int toSlot) {
+        buttons[toSlot] = buttons[fromSlot];
+
+        ItemStack item = renderedItems[fromSlot];
+        if (renderedItems[toSlot] == item) return;
+
+        renderedItems[toSlot] = item;
+        renderedHashes[toSlot] = renderedHashes[fromSlot];
+        inventory.setItem(toSlot, item);
+    }
+
+    /**
+     * Removes the button from a specific slot and clears the slot.
+     *
+     * @param slot The inventory slot (0 to size-1).
+     */
+    public void removeButton(int slot) {
+        if (slot < 0 || slot >= buttons.length) return;
+        buttons[slot] = null;
+        applyRendered(slot, null);
+    }
+
     /**
      * Synchronizes the visual ItemStack in the inventory with the current
      * state of the {@link GUIButton}'s ItemBuilder.
      * <p>
      * This method automatically applies the {@link #PROTECTED_TAG} and the
-     * button's specific action ID using the {@link ItemTag} API.
+     * button's specific action ID using the {@link ItemTag} API. The slot is only
+     * written to the inventory if the rendered item differs from the last one.
      * </p>
      *
      * @param slot The slot to refresh.
      */
     public void updateSlot(int slot) {
-        GUIButton button = buttons.get(slot);
+        GUIButton button = getButton(slot);
         if (button != null) {
-            ItemStack itemStack = button.getItemBuilder().build();
+            applyRendered(slot, renderButton(button));
+        }
+    }
 
-            // Apply tags directly via ItemTag class to support multiple tags
-            ItemTag.setItemTag(itemStack, PROTECTED_TAG);
-            ItemTag.setItemTag(itemStack, button.getActionId());
+    /**
+     * Re-renders all buttons and only updates the slots whose item actually changed.
+     * <p>
+     * Each slot is compared against the last rendered snapshot (identity, hash and
+     * equality checks), so unchanged slots cause no {@code setItem} call and no
+     * slot-update packet. Slots whose button has been removed are cleared.
+     * This is the preferred way to update live menus (timers, stock counters, ...).
+     * </p>
+     *
+     * @return The number of slots that were actually written to the inventory.
+     */
+    public int refresh() {
+        int changed = 0;
+        for (int slot = 0; slot < renderedItems.length; slot++) {
+            GUIButton button = buttons[slot];
+            ItemStack desired = button != null ? renderButton(button) : null;
+            if (applyRendered(slot, desired)) {
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Builds the protected display item for a button.
+     */
+    static @NotNull ItemStack renderButton(@NotNull GUIButton button) {
+        ItemStack itemStack = button.buildItem();
 
-            inventory.setItem(slot, itemStack);
+        // Apply both tags with a single meta write
+        return ItemTag.setItemTags(itemStack, PROTECTED_TAG_KEY, ItemTag.getTagKey(button.getActionId()));
+    }
+
+    /**
+     * Writes the item into the slot if it differs from the last rendered snapshot.
+     *
+     * @return {@code true} if the inventory was updated.
+     */
+    private boolean applyRendered(int slot, @Nullable ItemStack item) {
+        ItemStack previous = renderedItems[slot];
+        if (previous == item) return false;
+
+        int hash = item != null ? item.hashCode() : 0;
+        if (previous != null && item != null && hash == renderedHashes[slot] && previous.equals(item)) {
+            return false;
         }
+
+        renderedItems[slot] = item;
+        renderedHashes[slot] = hash;
+        inventory.setItem(slot, item);
+        return true;
     }
 
     /**
@@ -179,6 +307,143 @@ public class InventoryGUI implements InventoryHolder {
         }
     }
 
+    /**
+     * Sets the minimum time between two handled clicks of the same player in this GUI.
+     * <p>
+     * Excess clicks are dropped before any click action runs. Per-button limits can be
+     * configured via {@link GUIButton#setClickCooldown(long)}.
+     * </p>
+     *
+     * @param cooldownMillis The cooldown in milliseconds (0 = unlimited).
+     * @return The current instance for fluent chaining.
+     */
+    public InventoryGUI setClickCooldown(long cooldownMillis) {
+        this.clickThrottle = new ClickThrottle(cooldownMillis);
+        return this;
+    }
+
+    /**
+     * Sets the {@link ClickThrottle} used by this GUI.
+     * <p>
+     * Sharing one throttle between several GUIs keeps the click limits
+     * when a player switches between them (e.g. pages).
+     * </p>
+     *
+     * @param clickThrottle The throttle to use.
+     * @return The current instance for fluent chaining.
+     */
+    public InventoryGUI setClickThrottle(@NotNull ClickThrottle clickThrottle) {
+        this.clickThrottle = clickThrottle;
+        return this;
+    }
+
+    /**
+     * @return The {@link ClickThrottle} used by this GUI.
+     */
+    public @NotNull ClickThrottle getClickThrottle() {
+        return clickThrottle;
+    }
+
+    /**
+     * Sets the owner of this GUI.
+     * <p>
+     * Menus that create one InventoryGUI per viewer (like {@link PaginatedGUI}) set themselves
+     * as owner, so all open instances can be addressed together via
+     * {@link GUIRegistry#refreshViewersOf(Object)}.
+     * </p>
+     *
+     * @param owner The owner object.
+     * @return The current instance for fluent chaining.
+     */
+    public InventoryGUI setOwner(@NotNull Object owner) {
+        this.owner = owner;
+        return this;
+    }
+
+    /**
+     * @return The owner of this GUI. Defaults to the GUI itself.
+     */
+    public @NotNull Object getOwner() {
+        return owner;
+    }
+
+    /**
+     * Registers an updater that replaces the button of a slot periodically.
+     * <p>
+     * All updaters of all open GUIs are driven by one shared tick loop. Updaters only run
+     * while at least one player is viewing this GUI and are suspended when it is closed.
+     * Only changed slots are sent to the client (see {@link #refresh()}).
+     * </p>
+     *
+     * <p><b>Example:</b></p>
+     * <pre>
+     * gui.addSlotUpdater(13, 20, () -&gt; new GUIButton(timerIcon(), "timer", null));
+     * </pre>
+     *
+     * @param slot          The slot to update.
+     * @param intervalTicks The interval in server ticks (minimum 1).
+     * @param updater       Supplies the new button. Returning {@code null} keeps the current one.
+     * @return The current instance for fluent chaining.
+     */
+    public InventoryGUI addSlotUpdater(int slot, int intervalTicks, @NotNull Supplier<GUIButton> updater) {
+        return addUpdater(intervalTicks, gui -> {
+            GUIButton button = updater.get();
+            if (button != null) {
+                gui.setButton(slot, button);
+            }
+        });
+    }
+
+    /**
+     * Registers an updater that is called periodically with this GUI.
+     * <p>
+     * Useful for updates that affect several slots at once. Combine it with
+     * {@link #refresh()} to only send slots that actually changed.
+     * </p>
+     *
+     * @param intervalTicks The interval in server ticks (minimum 1).
+     * @param updater       The logic to execute.
+     * @return The current instance for fluent chaining.
+     */
+    public InventoryGUI addUpdater(int intervalTicks, @NotNull Consumer<InventoryGUI> updater) {
+        updaters.add(new Updater(Math.max(1, intervalTicks), updater));
+        if (!inventory.getViewers().isEmpty()) {
+            GUITicker.resume(this);
+        }
+        return this;
+    }
+
+    /**
+     * Removes all registered updaters from this GUI.
+     */
+    public void clearUpdaters() {
+        updaters.clear();
+        GUITicker.suspend(this);
+    }
+
+    /**
+     * @return {@code true} if at least one updater is registered.
+     */
+    public boolean hasUpdaters() {
+        return !updaters.isEmpty();
+    }
+
+    /**
+     * Executes all updaters whose interval matches the given tick.
+     * Called by the shared {@link GUITicker}.
+     */
+    void runUpdaters(long tick) {
+        for (int i = 0; i < updaters.size(); i++) {
+            Updater updater = updaters.get(i);
+            if (tick % updater.intervalTicks() == 0) {
+                updater.action().accept(this);
+            }
+        }
+    }
+
+    private record Updater(int intervalTicks, Consumer<InventoryGUI> action) {
+    }
+
     /**
      * Opens the GUI for the specified player.
      *
@@ -188,12 +453,160 @@ public class InventoryGUI implements InventoryHolder {
         player.openInventory(inventory);
     }
 
+    /**
+     * Returns the button placed in a specific slot.
+     * <p>
+     * This is a plain array lookup and is used for click dispatch.
+     * </p>
+     *
+     * @param slot The raw inventory slot.
+     * @return The {@link GUIButton} or {@code null} if the slot is empty or out of range.
+     */
+    public @Nullable GUIButton getButton(int slot) {
+        if (slot < 0 || slot >= buttons.length) return null;
+        return buttons[slot];
+    }
+
     /**
      * Returns a map containing all buttons registered in this GUI.
+     * <p>
+     * The map is a live view of the slot array: {@code put} delegates to
+     * {@link #setButton(int, GUIButton)} and {@code remove} to {@link #removeButton(int)},
+     * so changes made through it are rendered immediately. Slots outside the inventory
+     * are rejected with an {@link IllegalArgumentException}.
+     * </p>
      *
-     * @return A map of slots and their corresponding {@link GUIButton}.
+     * @return A modifiable map of slots and their corresponding {@link GUIButton}.
      */
-    public Map<Integer, GUIButton> getButtons() { return buttons; }
+    public Map<Integer, GUIButton> getButtons() {
+        return buttonView;
+    }
+
+    /**
+     * Write-through {@link Map} view over {@link #buttons}, keyed by slot.
+     */
+    private final class ButtonView extends AbstractMap<Integer, GUIButton> {
+
+        @Override
+        public GUIButton get(Object key) {
+            return key instanceof Integer slot && slot >= 0 && slot < buttons.length ? buttons[slot] : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public GUIButton put(Integer slot, GUIButton button) {
+            Objects.requireNonNull(button, "button");
+            if (slot == null || slot < 0 || slot >= buttons.length) {
+                throw new IllegalArgumentException("Slot " + slot + " is outside of this GUI");
+            }
+            GUIButton previous = buttons[slot];
+            setButton(slot, button);
+            return previous;
+        }
+
+        @Override
+        public GUIButton remove(Object key) {
+            GUIButton previous = get(key);
+            if (previous != null) {
+                removeButton((Integer) key);
+            }
+            return previous;
+        }
+
+        @Override
+        public int size() {
+            int size = 0;
+            for (GUIButton button : buttons) {
+                if (button != null) size++;
+            }
+            return size;
+        }
+
+        @Override
+        public @NotNull Set<Entry<Integer, GUIButton>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public @NotNull Iterator<Entry<Integer, GUIButton>> iterator() {
+                    return new Iterator<>() {
+                        private int next = advance(0);
+                        private int last = -1;
+
+                        private int advance(int from) {
+                            while (from < buttons.length && buttons[from] == null) from++;
+                            return from;
+                        }
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < buttons.length;
+                        }
+
+                        @Override
+                        public Entry<Integer, GUIButton> next() {
+                            if (!hasNext()) throw new NoSuchElementException();
+                            last = next;
+                            next = advance(next + 1);
+                            return new SlotEntry(last);
+                        }
+
+                        @Override
+                        public void remove() {
+                            if (last < 0) throw new IllegalStateException();
+                            removeButton(last);
+                            last = -1;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return ButtonView.this.size();
+                }
+            };
+        }
+    }
+
+    /**
+     * Map entry bound to a slot; {@link #setValue(GUIButton)} writes through to {@link #setButton(int, GUIButton)}.
+     */
+    private final class SlotEntry implements Map.Entry<Integer, GUIButton> {
+        private final int slot;
+
+        private SlotEntry(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        public Integer getKey() {
+            return slot;
+        }
+
+        @Override
+        public GUIButton getValue() {
+            return buttons[slot];
+        }
+
+        @Override
+        public GUIButton setValue(GUIButton value) {
+            GUIButton previous = buttons[slot];
+            setButton(slot, Objects.requireNonNull(value, "value"));
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Map.Entry<?, ?> e && Objects.equals(getKey(), e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Integer.hashCode(slot) ^ Objects.hashCode(getValue());
+        }
+    }
 
     @Override
     public @NotNull Inventory getInventory() { return inventory; }
@@ -1,27 +1,43 @@
 package de.peachbiscuit174.peachlib.gui;
 
 import de.peachbiscuit174.peachlib.items.ItemBuilder;
+import de.peachbiscuit174.peachlib.text.MessageTemplate;
 import org.bukkit.Material;
+import org.bukkit.entity.HumanEntity;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Predicate;
 
 /**
  * A flexible system for multi-page inventories.
+ * <p>
+ * One instance can be shared by all players (e.g. for /warps or /kits). The content and the
+ * toolbar buttons are shared; each viewer only has a small state holding the current page
+ * and optional own sort, filter and search settings.
+ * </p>
  *
  * @author peachbiscuit174
  * @since 1.0.0
  */
 public class PaginatedGUI {
 
-    private final String title;
+    // Title with the page counter, compiled once so page titles do not fill the ComponentCache
+    private final MessageTemplate titleTemplate;
     private final int rows;
     private final List<GUIButton> contentButtons = new ArrayList<>();
 
+    // Sorting, filtering & search (the index is rebuilt lazily after content changes)
+    private String searchKey = "search";
+    private ContentIndex contentIndex;
+    private final ContentQuery query = new ContentQuery();
+
     // Toolbar Configuration
     private final Map<Integer, GUIButton> customToolbarButtons = new HashMap<>();
     private boolean useToolbarBackground = true;
@@ -31,6 +47,19 @@ public class PaginatedGUI {
     private int nextSlot = 8;
     private int closeSlot = -1; // -1 = Disabled by default
 
+    // Click limits, shared by all pages so switching pages does not reset them
+    private ClickThrottle clickThrottle = new ClickThrottle(0);
+    private long navigationCooldown = 100;
+
+    // Per-viewer state (page, sort, filter, search); viewers are held weakly
+    private final Map<HumanEntity, ViewState> viewStates = new WeakHashMap<>();
+
+    // Shared toolbar buttons, created lazily and reset when their icon changes
+    private GUIButton prevButton;
+    private GUIButton nextButton;
+    private GUIButton closeButton;
+    private GUIButton backgroundButton;
+
     // Icons (Defaults in English)
     private ItemBuilder nextIcon = new ItemBuilder(Material.ARROW).setDisplayName("<green>Next Page »");
     private ItemBuilder prevIcon = new ItemBuilder(Material.ARROW).setDisplayName("<yellow>« Previous Page");
@@ -47,7 +76,7 @@ public class PaginatedGUI {
     public PaginatedGUI(int rows, String titleMiniMessage) {
         // We need at least 2 rows (1 Content + 1 Toolbar)
         this.rows = Math.max(2, Math.min(6, rows));
-        this.title = titleMiniMessage;
+        this.titleTemplate = MessageTemplate.compile(titleMiniMessage + " <dark_gray>(<page>/<pages>)", "page", "pages");
     }
 
     // --- Content Management ---
@@ -61,6 +90,7 @@ public class PaginatedGUI {
      */
     public PaginatedGUI addButton(@NotNull GUIButton button) {
         this.contentButtons.add(button);
+        this.contentIndex = null;
         return this;
     }
 
@@ -72,9 +102,101 @@ public class PaginatedGUI {
      */
     public PaginatedGUI addButtons(@NotNull List<GUIButton> buttons) {
         this.contentButtons.addAll(buttons);
+        this.contentIndex = null;
+        return this;
+    }
+
+    // --- Sorting, Filtering & Search ---
+
+    /**
+     * Sorts the content by a metadata value of the buttons (see {@link GUIButton#setMetadata(String, Object)}).
+     * <p>
+     * Buttons without the value are placed last. Sort orders are computed once per key and
+     * direction and cached until the content changes.
+     * </p>
+     *
+     * @param metadataKey The metadata key to sort by (e.g. {@code "price"}).
+     * @param ascending   {@code true} for ascending, {@code false} for descending order.
+     * @return The current instance for chaining.
+     */
+    public PaginatedGUI sortBy(@NotNull String metadataKey, boolean ascending) {
+        query.setSort(metadataKey, ascending);
+        return this;
+    }
+
+    /**
+     * Restores the insertion order of the content.
+     *
+     * @return The current instance for chaining.
+     */
+    public PaginatedGUI clearSort() {
+        query.setSort(null, true);
+        return this;
+    }
+
+    /**
+     * Only shows content buttons matching the filter.
+     *
+     * @param filter The filter, or {@code null} to show all buttons.
+     * @return The current instance for chaining.
+     */
+    public PaginatedGUI setFilter(@Nullable Predicate<GUIButton> filter) {
+        query.setFilter(filter);
+        return this;
+    }
+
+    /**
+     * Only shows content buttons whose metadata value equals the given value
+     * (e.g. {@code filterBy("category", "weapons")}).
+     *
+     * @param metadataKey The metadata key.
+     * @param value       The required value.
+     * @return The current instance for chaining.
+     */
+    public PaginatedGUI filterBy(@NotNull String metadataKey, @NotNull Object value) {
+        query.setFilter(button -> value.equals(button.getMetadata(metadataKey)));
+        return this;
+    }
+
+    /**
+     * Only shows content buttons where every word of the query is the prefix of a word
+     * in their search text (case-insensitive).
+     * <p>
+     * The search text is the metadata value of the search key (see {@link #setSearchKey(String)}),
+     * or the action ID if it is not set. Lookups use a sorted prefix index, and queries that
+     * extend the previous query only re-check the previous matches.
+     * </p>
+     *
+     * @param query The search query, or {@code null}/empty to disable the search.
+     * @return The current instance for chaining.
+     */
+    public PaginatedGUI setSearch(@Nullable String query) {
+        this.query.setSearch(query);
+        return this;
+    }
+
+    /**
+     * Sets the metadata key that holds the search text of a button. Default is {@code "search"}.
+     *
+     * @param metadataKey The metadata key.
+     * @return The current instance for chaining.
+     */
+    public PaginatedGUI setSearchKey(@NotNull String metadataKey) {
+        this.searchKey = metadataKey;
+        this.contentIndex = null;
         return this;
     }
 
+    /**
+     * Returns the index over the current content, rebuilding it if the content changed.
+     */
+    private @NotNull ContentIndex getContentIndex() {
+        if (contentIndex == null) {
+            contentIndex = new ContentIndex(contentButtons, searchKey);
+        }
+        return contentIndex;
+    }
+
     // --- Toolbar Configuration ---
 
     /**
@@ -122,6 +244,32 @@ public class PaginatedGUI {
         return this;
     }
 
+    /**
+     * Sets the minimum time between two handled clicks of the same player on any page.
+     *
+     * @param cooldownMillis The cooldown in milliseconds (0 = unlimited).
+     * @return The current instance for chaining.
+     */
+    public PaginatedGUI setClickCooldown(long cooldownMillis) {
+        this.clickThrottle = new ClickThrottle(cooldownMillis);
+        return this;
+    }
+
+    /**
+     * Sets the minimum time between two clicks of the same player on the
+     * navigation buttons. Each accepted click opens a new page, so spam is dropped.
+     * Default is 100ms.
+     *
+     * @param cooldownMillis The cooldown in milliseconds (0 = unlimited).
+     * @return The current instance for chaining.
+     */
+    public PaginatedGUI setNavigationCooldown(long cooldownMillis) {
+        this.navigationCooldown = Math.max(0, cooldownMillis);
+        this.prevButton = null;
+        this.nextButton = null;
+        return this;
+    }
+
     // --- Visual Customization ---
 
     /**
@@ -131,6 +279,7 @@ public class PaginatedGUI {
      */
     public PaginatedGUI setNextIcon(@NotNull ItemBuilder builder) {
         this.nextIcon = builder;
+        this.nextButton = null;
         return this;
     }
 
@@ -141,6 +290,7 @@ public class PaginatedGUI {
      */
     public PaginatedGUI setPreviousIcon(@NotNull ItemBuilder builder) {
         this.prevIcon = builder;
+        this.prevButton = null;
         return this;
     }
 
@@ -151,6 +301,7 @@ public class PaginatedGUI {
      */
     public PaginatedGUI setCloseIcon(@NotNull ItemBuilder builder) {
         this.closeIcon = builder;
+        this.closeButton = null;
         return this;
     }
 
@@ -161,9 +312,106 @@ public class PaginatedGUI {
      */
     public PaginatedGUI setToolbarBackground(@NotNull ItemBuilder builder) {
         this.backgroundIcon = builder;
+        this.backgroundButton = null;
+        return this;
+    }
+
+    // --- Per-Viewer State ---
+
+    /**
+     * Sorts the content for a single viewer only (see {@link #sortBy(String, boolean)}).
+     * Re-renders the viewer's open page, starting at the first page.
+     *
+     * @param viewer      The viewer.
+     * @param metadataKey The metadata key to sort by.
+     * @param ascending   {@code true} for ascending, {@code false} for descending order.
+     * @return The current instance for chaining.
+     */
+    public PaginatedGUI sortBy(@NotNull Player viewer, @NotNull String metadataKey, boolean ascending) {
+        getViewState(viewer).query(query).setSort(metadataKey, ascending);
+        onViewChanged(viewer);
+        return this;
+    }
+
+    /**
+     * Sets a filter for a single viewer only (see {@link #setFilter(Predicate)}).
+     * Re-renders the viewer's open page, starting at the first page.
+     *
+     * @param viewer The viewer.
+     * @param filter The filter, or {@code null} to show all buttons.
+     * @return The current instance for chaining.
+     */
+    public PaginatedGUI setFilter(@NotNull Player viewer, @Nullable Predicate<GUIButton> filter) {
+        getViewState(viewer).query(query).setFilter(filter);
+        onViewChanged(viewer);
+        return this;
+    }
+
+    /**
+     * Sets the search query for a single viewer only (see {@link #setSearch(String)}).
+     * Re-renders the viewer's open page, starting at the first page.
+     *
+     * @param viewer The viewer.
+     * @param search The search query, or {@code null}/empty to disable the search.
+     * @return The current instance for chaining.
+     */
+    public PaginatedGUI setSearch(@NotNull Player viewer, @Nullable String search) {
+        getViewState(viewer).query(query).setSearch(search);
+        onViewChanged(viewer);
         return this;
     }
 
+    /**
+     * Returns the page the viewer has currently open or opened last.
+     *
+     * @param viewer The viewer.
+     * @return The page index (0-based).
+     */
+    public int getPage(@NotNull Player viewer) {
+        ViewState state = viewStates.get(viewer);
+        return state != null ? state.page : 0;
+    }
+
+    /**
+     * Removes the viewer's state (page, sort, filter, search). States of players who left
+     * the server are removed automatically.
+     *
+     * @param viewer The viewer.
+     */
+    public void clearViewState(@NotNull Player viewer) {
+        viewStates.remove(viewer);
+    }
+
+    /**
+     * Re-renders the current page of every player who has this GUI open,
+     * e.g. after content buttons were added.
+     */
+    public void refreshViewers() {
+        for (InventoryGUI gui : GUIRegistry.getOpenGUIs()) {
+            if (gui.getOwner() != this) continue;
+            for (HumanEntity viewer : new ArrayList<>(gui.getInventory().getViewers())) {
+                if (viewer instanceof Player player) {
+                    open(player, getPage(player));
+                }
+            }
+        }
+    }
+
+    private @NotNull ViewState getViewState(@NotNull HumanEntity viewer) {
+        return viewStates.computeIfAbsent(viewer, v -> new ViewState());
+    }
+
+    /**
+     * Jumps back to the first page and re-renders it if the viewer has this GUI open.
+     */
+    private void onViewChanged(@NotNull Player viewer) {
+        getViewState(viewer).page = 0;
+        InventoryGUI openGUI = GUIRegistry.getOpenGUI(viewer);
+        if (openGUI != null && openGUI.getOwner() == this) {
+            open(viewer, 0);
+        }
+    }
+
     // --- Logic ---
 
     /**
@@ -175,6 +423,16 @@ public class PaginatedGUI {
         open(player, 0);
     }
 
+    /**
+     * Opens the GUI for the specified player at the page they viewed last,
+     * keeping their sort, filter and search settings.
+     *
+     * @param player The player to open the inventory for.
+     */
+    public void resume(@NotNull Player player) {
+        open(player, getPage(player));
+    }
+
     /**
      * Internal method to open a specific page.
      */
@@ -182,16 +440,22 @@ public class PaginatedGUI {
         int contentRows = rows - 1;
         int slotsPerPage = contentRows * 9;
 
-        int totalItems = contentButtons.size();
+        // Resolve sort/filter/search once; only the visible page is rendered
+        ViewState state = getViewState(player);
+        ContentIndex index = getContentIndex();
+        int[] view = (state.query != null ? state.query : query).resolve(index);
+
+        int totalItems = view.length;
         int totalPages = (int) Math.ceil((double) totalItems / slotsPerPage);
 
         // Safety checks for page bounds
         if (page < 0) page = 0;
         if (page >= totalPages && totalPages > 0) page = totalPages - 1;
+        state.page = page;
 
         // Title format: "Title (1/5)"
-        String pageTitle = title + " <dark_gray>(" + (page + 1) + "/" + Math.max(1, totalPages) + ")";
-        InventoryGUI gui = new InventoryGUI(rows, pageTitle);
+        InventoryGUI gui = new InventoryGUI(rows, titleTemplate.render(page + 1, Math.max(1, totalPages)));
+        gui.setClickThrottle(clickThrottle).setOwner(this);
 
         // 1. Fill Content
         int startIndex = page * slotsPerPage;
@@ -199,7 +463,7 @@ public class PaginatedGUI {
 
         for (int i = startIndex; i < endIndex; i++) {
             // The slot in the GUI is relative to the start of the page content
-            gui.setButton(i - startIndex, contentButtons.get(i));
+            gui.setButton(i - startIndex, index.get(view[i]));
         }
 
         // 2. Build Toolbar
@@ -207,8 +471,9 @@ public class PaginatedGUI {
 
         // Step A: Background (if enabled)
         if (useToolbarBackground) {
+            GUIButton background = getBackgroundButton();
             for (int i = 0; i < 9; i++) {
-                gui.setPlaceholder(toolbarStartIdx + i, backgroundIcon.copy(), "toolbar_bg");
+                gui.setButton(toolbarStartIdx + i, background);
             }
         }
 
@@ -218,29 +483,75 @@ public class PaginatedGUI {
         }
 
         // Step C: Navigation (Override Custom Buttons & Background where necessary)
-        final int finalPage = page;
+        // The navigation buttons are shared by all viewers and read the page from the view state.
 
         // "Previous" Button
         if (prevSlot >= 0 && page > 0) {
-            gui.setButton(toolbarStartIdx + prevSlot, new GUIButton(prevIcon.copy(), "prev_page", event -> {
-                this.open(player, finalPage - 1);
-            }));
+            gui.setButton(toolbarStartIdx + prevSlot, getPrevButton());
         }
 
         // "Next" Button
         if (nextSlot >= 0 && page < totalPages - 1) {
-            gui.setButton(toolbarStartIdx + nextSlot, new GUIButton(nextIcon.copy(), "next_page", event -> {
-                this.open(player, finalPage + 1);
-            }));
+            gui.setButton(toolbarStartIdx + nextSlot, getNextButton());
         }
 
         // "Close" Button (Always shown if slot is set)
         if (closeSlot >= 0) {
-            gui.setButton(toolbarStartIdx + closeSlot, new GUIButton(closeIcon.copy(), "close_gui", event -> {
-                player.closeInventory();
-            }));
+            gui.setButton(toolbarStartIdx + closeSlot, getCloseButton());
         }
 
         gui.open(player);
     }
-}
\ No newline at end of file
+
+    private void turnPage(@NotNull HumanEntity viewer, int delta) {
+        if (viewer instanceof Player player) {
+            open(player, getPage(player) + delta);
+        }
+    }
+
+    private @NotNull GUIButton getPrevButton() {
+        if (prevButton == null) {
+            prevButton = new GUIButton(prevIcon, "prev_page", event -> turnPage(event.getWhoClicked(), -1))
+                    .setClickCooldown(navigationCooldown);
+        }
+        return prevButton;
+    }
+
+    private @NotNull GUIButton getNextButton() {
+        if (nextButton == null) {
+            nextButton = new GUIButton(nextIcon, "next_page", event -> turnPage(event.getWhoClicked(), 1))
+                    .setClickCooldown(navigationCooldown);
+        }
+        return nextButton;
+    }
+
+    private @NotNull GUIButton getCloseButton() {
+        if (closeButton == null) {
+            closeButton = new GUIButton(closeIcon, "close_gui", event -> event.getWhoClicked().closeInventory());
+        }
+        return closeButton;
+    }
+
+    private @NotNull GUIButton getBackgroundButton() {
+        if (backgroundButton == null) {
+            backgroundButton = new GUIButton(backgroundIcon, "toolbar_bg", null);
+        }
+        return backgroundButton;
+    }
+
+    /**
+     * Lightweight per-viewer state. The query is only created once the viewer
+     * changes sort, filter or search; until then the shared query is used.
+     */
+    private static final class ViewState {
+        private int page = 0;
+        private ContentQuery query;
+
+        private @NotNull ContentQuery query(@NotNull ContentQuery defaults) {
+            if (query == null) {
+                query = new ContentQuery(defaults);
+            }
+            return query;
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package de.peachbiscuit174.peachlib.gui;
+
+import de.peachbiscuit174.peachlib.items.ItemBuilder;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A scrollable list view as an alternative to {@link PaginatedGUI}.
+ * <p>
+ * Instead of jumping a whole page (and opening a new inventory), the visible window is
+ * shifted row by row inside the same inventory. Rows that stay visible are moved with their
+ * already rendered items; only the newly exposed row is rendered. The last row is used as toolbar.
+ * </p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>
+ * ScrollingGUI list = new ScrollingGUI(6, "&lt;gold&gt;Warps");
+ * list.addButtons(warpButtons);
+ * list.open(player);
+ * </pre>
+ *
+ * @author peachbiscuit174
+ * @since 1.0.0
+ */
+public class ScrollingGUI {
+
+    private final String title;
+    private final int rows;
+    private final List<GUIButton> contentButtons = new ArrayList<>();
+
+    // Toolbar Configuration (slots 0-8 relative to the toolbar row, -1 = disabled)
+    private int upSlot = 0;
+    private int downSlot = 8;
+    private int closeSlot = -1;
+    private boolean useToolbarBackground = true;
+    private ClickThrottle clickThrottle = new ClickThrottle(0);
+
+    // Icons (Defaults in English)
+    private ItemBuilder upIcon = new ItemBuilder(Material.ARROW).setDisplayName("<yellow>▲ Scroll Up");
+    private ItemBuilder downIcon = new ItemBuilder(Material.ARROW).setDisplayName("<green>▼ Scroll Down");
+    private ItemBuilder closeIcon = new ItemBuilder(Material.BARRIER).setDisplayName("<red>Close");
+    private ItemBuilder backgroundIcon = new ItemBuilder(Material.GRAY_STAINED_GLASS_PANE).setDisplayName(" ");
+
+    /**
+     * Creates a new ScrollingGUI.
+     *
+     * @param rows             The total number of rows (must be 2-6).
+     * (e.g., 6 rows = 5 visible content rows + 1 toolbar row).
+     * @param titleMiniMessage The title of the inventory using MiniMessage formatting.
+     */
+    public ScrollingGUI(int rows, String titleMiniMessage) {
+        this.rows = Math.max(2, Math.min(6, rows));
+        this.title = titleMiniMessage;
+    }
+
+    // --- Content Management ---
+
+    /**
+     * Adds a single button to the content list.
+     *
+     * @param button The {@link GUIButton} to add.
+     * @return The current instance for chaining.
+     */
+    public ScrollingGUI addButton(@NotNull GUIButton button) {
+        this.contentButtons.add(button);
+        return this;
+    }
+
+    /**
+     * Adds a list of buttons to the content list.
+     *
+     * @param buttons The list of {@link GUIButton}s to add.
+     * @return The current instance for chaining.
+     */
+    public ScrollingGUI addButtons(@NotNull List<GUIButton> buttons) {
+        this.contentButtons.addAll(buttons);
+        return this;
+    }
+
+    // --- Toolbar Configuration ---
+
+    /**
+     * Sets the slot positions for the scroll buttons in the toolbar.
+     * Use {@code -1} to disable a specific button.
+     *
+     * @param upSlot    Slot for "Scroll Up" (0-8).
+     * @param downSlot  Slot for "Scroll Down" (0-8).
+     * @param closeSlot Slot for "Close" (0-8). Default is -1 (disabled).
+     * @return The current instance for chaining.
+     */
+    public ScrollingGUI setNavigationSlots(int upSlot, int downSlot, int closeSlot) {
+        this.upSlot = upSlot;
+        this.downSlot = downSlot;
+        this.closeSlot = closeSlot;
+        return this;
+    }
+
+    /**
+     * Toggles the filler item (background) of the toolbar on or off.
+     *
+     * @param enabled {@code true} to show the background item, {@code false} to leave empty slots.
+     * @return The current instance for chaining.
+     */
+    public ScrollingGUI setToolbarBackgroundEnabled(boolean enabled) {
+        this.useToolbarBackground = enabled;
+        return this;
+    }
+
+    /**
+     * Sets the minimum time between two handled clicks of the same player.
+     *
+     * @param cooldownMillis The cooldown in milliseconds (0 = unlimited).
+     * @return The current instance for chaining.
+     */
+    public ScrollingGUI setClickCooldown(long cooldownMillis) {
+        this.clickThrottle = new ClickThrottle(cooldownMillis);
+        return this;
+    }
+
+    // --- Visual Customization ---
+
+    /**
+     * Sets the visual item for the "Scroll Up" button.
+     * @param builder The {@link ItemBuilder} defining the icon.
+     * @return The current instance.
+     */
+    public ScrollingGUI setUpIcon(@NotNull ItemBuilder builder) {
+        this.upIcon = builder;
+        return this;
+    }
+
+    /**
+     * Sets the visual item for the "Scroll Down" button.
+     * @param builder The {@link ItemBuilder} defining the icon.
+     * @return The current instance.
+     */
+    public ScrollingGUI setDownIcon(@NotNull ItemBuilder builder) {
+        this.downIcon = builder;
+        return this;
+    }
+
+    /**
+     * Sets the visual item for the "Close" button.
+     * @param builder The {@link ItemBuilder} defining the icon.
+     * @return The current instance.
+     */
+    public ScrollingGUI setCloseIcon(@NotNull ItemBuilder builder) {
+        this.closeIcon = builder;
+        return this;
+    }
+
+    /**
+     * Sets the visual item used as the toolbar background (filler).
+     * @param builder The {@link ItemBuilder} defining the background item.
+     * @return The current instance.
+     */
+    public ScrollingGUI setToolbarBackground(@NotNull ItemBuilder builder) {
+        this.backgroundIcon = builder;
+        return this;
+    }
+
+    // --- Logic ---
+
+    /**
+     * Opens the list for the specified player, scrolled to the top.
+     *
+     * @param player The player to open the inventory for.
+     */
+    public void open(@NotNull Player player) {
+        InventoryGUI gui = new InventoryGUI(rows, title);
+        gui.setClickThrottle(clickThrottle).setOwner(this);
+
+        View view = new View(gui);
+        int toolbarStart = (rows - 1) * 9;
+
+        if (useToolbarBackground) {
+            for (int i = 0; i < 9; i++) {
+                gui.setPlaceholder(toolbarStart + i, backgroundIcon.copy(), "toolbar_bg");
+            }
+        }
+
+        if (closeSlot >= 0) {
+            gui.setButton(toolbarStart + closeSlot, new GUIButton(closeIcon.copy(), "close_gui", event -> {
+                event.getWhoClicked().closeInventory();
+            }));
+        }
+
+        // The view is only referenced by this GUI's buttons and is collected with it
+        view.upButton = new GUIButton(upIcon.copy(), "scroll_up", event -> scroll(view, -1));
+        view.downButton = new GUIButton(downIcon.copy(), "scroll_down", event -> scroll(view, 1));
+
+        renderRows(view, 0, rows - 1);
+        updateNavigation(view);
+        gui.open(player);
+    }
+
+    /**
+     * Shifts the visible window of a view by the given number of rows.
+     */
+    private void scroll(@NotNull View view, int delta) {
+        int visibleRows = rows - 1;
+        int newOffset = Math.max(0, Math.min(getMaxOffset(), view.offset + delta));
+        int shift = newOffset - view.offset;
+        if (shift == 0) return;
+
+        view.offset = newOffset;
+        InventoryGUI gui = view.gui;
+
+        if (Math.abs(shift) >= visibleRows) {
+            renderRows(view, 0, visibleRows);
+        } else if (shift > 0) {
+            // Move the still visible rows up, then render the newly exposed rows at the bottom
+            for (int row = 0; row < visibleRows - shift; row++) {
+                copyRow(gui, row + shift, row);
+            }
+            renderRows(view, visibleRows - shift, visibleRows);
+        } else {
+            // Move the still visible rows down, then render the newly exposed rows at the top
+            for (int row = visibleRows - 1; row >= -shift; row--) {
+                copyRow(gui, row + shift, row);
+            }
+            renderRows(view, 0, -shift);
+        }
+
+        updateNavigation(view);
+    }
+
+    private void copyRow(@NotNull InventoryGUI gui, int fromRow, int toRow) {
+        for (int col = 0; col < 9; col++) {
+            gui.copySlot((fromRow * 9) + col, (toRow * 9) + col);
+        }
+    }
+
+    /**
+     * Renders the content rows [fromRow, toRow) of the visible window.
+     */
+    private void renderRows(@NotNull View view, int fromRow, int toRow) {
+        for (int row = fromRow; row < toRow; row++) {
+            for (int col = 0; col < 9; col++) {
+                int slot = (row * 9) + col;
+                int index = ((view.offset + row) * 9) + col;
+                if (index < contentButtons.size()) {
+                    view.gui.setButton(slot, contentButtons.get(index));
+                } else {
+                    view.gui.removeButton(slot);
+                }
+            }
+        }
+    }
+
+    /**
+     * Shows the scroll buttons only when scrolling in that direction is possible.
+     */
+    private void updateNavigation(@NotNull View view) {
+        int toolbarStart = (rows - 1) * 9;
+        if (upSlot >= 0) {
+            setNavigationButton(view.gui, toolbarStart + upSlot, view.offset > 0 ? view.upButton : null);
+        }
+        if (downSlot >= 0) {
+            setNavigationButton(view.gui, toolbarStart + downSlot, view.offset < getMaxOffset() ? view.downButton : null);
+        }
+    }
+
+    private void setNavigationButton(@NotNull InventoryGUI gui, int slot, GUIButton button) {
+        if (button != null) {
+            gui.setButton(slot, button);
+        } else if (useToolbarBackground) {
+            gui.setPlaceholder(slot, backgroundIcon.copy(), "toolbar_bg");
+        } else {
+            gui.removeButton(slot);
+        }
+    }
+
+    private int getMaxOffset() {
+        int totalRows = (contentButtons.size() + 8) / 9;
+        return Math.max(0, totalRows - (rows - 1));
+    }
+
+    /**
+     * Scroll state of one opened inventory.
+     */
+    private static final class View {
+        private final InventoryGUI gui;
+        private int offset = 0;
+        private GUIButton upButton;
+        private GUIButton downButton;
+
+        private View(@NotNull InventoryGUI gui) {
+            this.gui = gui;
+        }
+    }
+}
@@ -2,8 +2,8 @@ package de.peachbiscuit174.peachlib.items;
 
 import com.destroystokyo.paper.profile.PlayerProfile;
 import com.destroystokyo.paper.profile.ProfileProperty;
+import de.peachbiscuit174.peachlib.text.ComponentCache;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
@@ -242,7 +242,7 @@ public class CustomHeads {
      * @return The parsed {@link Component}.
      */
     private static @NotNull Component parseComponent(@NotNull String input) {
-        return MiniMessage.miniMessage().deserialize(input);
+        return ComponentCache.parse(input);
     }
 
 
@@ -3,9 +3,9 @@ package de.peachbiscuit174.peachlib.items;
 import io.papermc.paper.datacomponent.DataComponentTypes;
 import io.papermc.paper.datacomponent.item.CustomModelData;
 import de.peachbiscuit174.peachlib.api.items.ItemTagAPI;
+import de.peachbiscuit174.peachlib.text.ComponentCache;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.TextDecoration;
-import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.bukkit.Material;
 import org.bukkit.enchantments.Enchantment;
 import org.bukkit.inventory.ItemFlag;
@@ -33,7 +33,6 @@ public class ItemBuilder {
     private float customModelData = -1;
     private String item_tag;
     private List<String> item_tag_list = new ArrayList<>();
-    private static final MiniMessage MM = MiniMessage.miniMessage();
 
     public ItemBuilder(@NotNull Material material) {
         this.itemStack = new ItemStack(material);
@@ -45,25 +44,16 @@ public class ItemBuilder {
         this.itemMeta = this.itemStack.getItemMeta();
     }
 
-    private ItemBuilder(@NotNull ItemStack itemStack, int customModelDataint, float customModelDatafloat, String item_tag, List<String> item_tag_list) {
-        this.itemStack = itemStack.clone();
-        this.itemMeta = this.itemStack.getItemMeta().clone();
-        if (customModelDataint == -1 && customModelDatafloat != -1) {
-            this.customModelData = customModelDatafloat;
-        } else if (customModelDataint != -1 && customModelDatafloat == -1) {
-            this.customModelDataLegacy = customModelDataint;
-        } else if (customModelDataint != -1 && customModelDatafloat != -1) {
-            this.customModelData = customModelDatafloat;
-        }
-
-        if (item_tag != null) {
-            this.item_tag = item_tag;
-        }
-
-        if (item_tag_list != null && !item_tag_list.isEmpty()) {
-            this.item_tag_list = new ArrayList<>(item_tag_list);
-        }
-
+    /**
+     * Copy constructor used by {@link #copy()}. Clones the stack and the meta exactly once.
+     */
+    private ItemBuilder(@NotNull ItemBuilder source) {
+        this.itemStack = source.itemStack.clone();
+        this.itemMeta = source.itemMeta != null ? source.itemMeta.clone() : null;
+        this.customModelDataLegacy = source.customModelDataLegacy;
+        this.customModelData = source.customModelData;
+        this.item_tag = source.item_tag;
+        this.item_tag_list = new ArrayList<>(source.item_tag_list);
     }
 
     /**
@@ -76,7 +66,7 @@ public class ItemBuilder {
      * @return A new ItemBuilder instance with identical data.
      */
     public @NotNull ItemBuilder copy() {
-        return new ItemBuilder(this.buildWithoutData(), customModelDataLegacy, customModelData, item_tag, item_tag_list);
+        return new ItemBuilder(this);
     }
 
     /**
@@ -87,7 +77,21 @@ public class ItemBuilder {
      */
     public ItemBuilder setDisplayName(@NotNull String displayName) {
         if (itemMeta != null) {
-            itemMeta.displayName(MM.deserialize(displayName).decoration(TextDecoration.ITALIC, false));
+            itemMeta.displayName(ComponentCache.parse(displayName).decoration(TextDecoration.ITALIC, false));
+        }
+        return this;
+    }
+
+    /**
+     * Sets an already built display name, e.g. one rendered from a
+     * {@link de.peachbiscuit174.peachlib.text.MessageTemplate} for per-item values.
+     *
+     * @param displayName The name.
+     * @return The current ItemBuilder instance.
+     */
+    public ItemBuilder setDisplayName(@NotNull Component displayName) {
+        if (itemMeta != null) {
+            itemMeta.displayName(displayName.decoration(TextDecoration.ITALIC, false));
         }
         return this;
     }
@@ -275,47 +279,50 @@ public class ItemBuilder {
 
     /**
      * Builds the final ItemStack.
+     * <p>
+     * All meta changes including the item tags are applied with a single {@code setItemMeta} call.
+     * </p>
      *
      * @return The finished {@link ItemStack}.
      */
     public @NotNull ItemStack build() {
         ItemStack buildItemStack = itemStack.clone();
+        if (itemMeta == null) {
+            return buildItemStack;
+        }
+
         ItemMeta buildItemMeta = itemMeta.clone();
-        List<String> build_item_tag_list = new ArrayList<>(item_tag_list);
-        if (customModelData != -1) {
-            buildItemStack.setItemMeta(buildItemMeta);
-            if (!buildItemStack.hasData(DataComponentTypes.CUSTOM_MODEL_DATA)) {
-                buildItemStack.setData(DataComponentTypes.CUSTOM_MODEL_DATA, CustomModelData.customModelData().addFloat(customModelData).addFlag(true).build());
-            }
-        } else if (customModelDataLegacy != -1) {
-            if (!buildItemMeta.hasCustomModelData()) {
-                buildItemMeta.setCustomModelData(customModelDataLegacy);
-            }
-            buildItemStack.setItemMeta(buildItemMeta);
-        } else {
-            buildItemStack.setItemMeta(buildItemMeta);
+        if (customModelData == -1 && customModelDataLegacy != -1 && !buildItemMeta.hasCustomModelData()) {
+            buildItemMeta.setCustomModelData(customModelDataLegacy);
         }
 
-        if (item_tag != null) {
-            if (!build_item_tag_list.contains(item_tag)) {
-                build_item_tag_list.add(item_tag);
-            }
+        if (item_tag != null && !item_tag_list.contains(item_tag)) {
+            List<String> build_item_tag_list = new ArrayList<>(item_tag_list);
+            build_item_tag_list.add(item_tag);
+            ItemTag.applyTags(buildItemMeta, build_item_tag_list);
+        } else if (!item_tag_list.isEmpty()) {
+            ItemTag.applyTags(buildItemMeta, item_tag_list);
         }
 
-        if (!build_item_tag_list.isEmpty()) {
-            for (String key : build_item_tag_list) {
-                ItemTag.setItemTag(buildItemStack, key);
-            }
+        buildItemStack.setItemMeta(buildItemMeta);
+
+        if (customModelData != -1 && !buildItemStack.hasData(DataComponentTypes.CUSTOM_MODEL_DATA)) {
+            buildItemStack.setData(DataComponentTypes.CUSTOM_MODEL_DATA, CustomModelData.customModelData().addFloat(customModelData).addFlag(true).build());
         }
 
         return buildItemStack;
     }
 
-    private @NotNull ItemStack buildWithoutData() {
-        ItemStack buildItemStack = itemStack.clone();
-        ItemMeta buildItemMeta = itemMeta.clone();
-        buildItemStack.setItemMeta(buildItemMeta);
-
-        return buildItemStack;
+    /**
+     * Creates an immutable {@link ItemSpec} of the current state.
+     * <p>
+     * The spec can be shared between threads; each {@link ItemSpec#create()} only clones
+     * the prebuilt item once.
+     * </p>
+     *
+     * @return A new ItemSpec.
+     */
+    public @NotNull ItemSpec toSpec() {
+        return ItemSpec.of(build());
     }
 }
\ No newline at end of file
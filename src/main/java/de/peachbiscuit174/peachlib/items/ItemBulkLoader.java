@@ -0,0 +1,250 @@
+package de.peachbiscuit174.peachlib.items;
+
+import de.peachbiscuit174.peachlib.PeachLib;
+import org.bukkit.Bukkit;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Deserializes large amounts of stored items in parallel.
+ * <p>
+ * Items stored with an older Minecraft version are upgraded by the server's data fixers on every load.
+ * With a {@link MigrationListener}, each upgraded item is serialized again at the current data version
+ * and handed to the listener, so it can be written back and the upgrade only has to run once.
+ * The data version is read with a minimal scan of the item NBT, without deserializing it twice.
+ * </p>
+ * <p>
+ * Work runs on the common {@link ForkJoinPool} by default. Results and listener calls happen on
+ * worker threads; switch to the main thread before touching the world or players.
+ * </p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>
+ * ItemBulkLoader.deserializeAll(blobs, (index, upgraded) -&gt; database.update(ids.get(index), upgraded))
+ *         .thenAccept(items -&gt; scheduler.runSync(() -&gt; vaults.fill(items)));
+ * </pre>
+ *
+ * @author peachbiscuit174
+ * @since 1.0.0
+ */
+public final class ItemBulkLoader {
+
+    private static final int MIN_CHUNK_SIZE = 64;
+    private static final byte[] DATA_VERSION = "DataVersion".getBytes(StandardCharsets.UTF_8);
+
+    private ItemBulkLoader() {
+    }
+
+    /**
+     * Receives items that were stored with an older data version, re-serialized at the current one.
+     */
+    @FunctionalInterface
+    public interface MigrationListener {
+        /**
+         * Called from a worker thread for every upgraded item.
+         *
+         * @param index    The index of the item in the input list.
+         * @param upgraded The new bytes, in the same format (native or compressed) as the input.
+         */
+        void onMigrated(int index, byte[] upgraded);
+    }
+
+    /**
+     * Deserializes all blobs in parallel.
+     *
+     * @param blobs The serialized items (native or compressed format).
+     * @return A future with the items in input order; invalid blobs result in {@code null} entries.
+     */
+    public static @NotNull CompletableFuture<List<ItemStack>> deserializeAll(@NotNull List<byte[]> blobs) {
+        return deserializeAll(blobs, null, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Deserializes all blobs in parallel and reports upgraded items.
+     *
+     * @param blobs    The serialized items (native or compressed format).
+     * @param listener Receives the re-serialized bytes of upgraded items, or {@code null}.
+     * @return A future with the items in input order; invalid blobs result in {@code null} entries.
+     */
+    public static @NotNull CompletableFuture<List<ItemStack>> deserializeAll(@NotNull List<byte[]> blobs, @Nullable MigrationListener listener) {
+        return deserializeAll(blobs, listener, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Deserializes all blobs in parallel on a custom executor and reports upgraded items.
+     *
+     * @param blobs    The serialized items (native or compressed format).
+     * @param listener Receives the re-serialized bytes of upgraded items, or {@code null}.
+     * @param executor The executor for the work.
+     * @return A future with the items in input order; invalid blobs result in {@code null} entries.
+     */
+    public static @NotNull CompletableFuture<List<ItemStack>> deserializeAll(@NotNull List<byte[]> blobs, @Nullable MigrationListener listener,
+                                                                             @NotNull Executor executor) {
+        List<byte[]> input = List.copyOf(blobs);
+        return run(input.size(), input::get, listener, executor);
+    }
+
+    /**
+     * Deserializes Base64 strings in parallel. Decoding also happens on the worker threads.
+     *
+     * @param base64Items The Base64 strings (native or compressed format).
+     * @param listener    Receives the re-serialized bytes of upgraded items, or {@code null}.
+     * @return A future with the items in input order; invalid strings result in {@code null} entries.
+     */
+    public static @NotNull CompletableFuture<List<ItemStack>> deserializeAllFromBase64(@NotNull List<String> base64Items, @Nullable MigrationListener listener) {
+        List<String> input = List.copyOf(base64Items);
+        return run(input.size(), index -> Base64.getDecoder().decode(input.get(index)), listener, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Reads the data version an item was stored with.
+     *
+     * @param blob The serialized item (native or compressed format).
+     * @return The data version, or {@code -1} if it cannot be determined.
+     */
+    public static int getDataVersion(byte[] blob) {
+        try {
+            return readDataVersion(ItemCompression.toRawNbt(blob));
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private static @NotNull CompletableFuture<List<ItemStack>> run(int size, @NotNull IntFunction<byte[]> source,
+                                                                   @Nullable MigrationListener listener, @NotNull Executor executor) {
+        ItemStack[] results = new ItemStack[size];
+        if (size == 0) {
+            return CompletableFuture.completedFuture(Arrays.asList(results));
+        }
+
+        int currentVersion = listener != null ? Bukkit.getUnsafe().getDataVersion() : -1;
+        int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors());
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, size / (parallelism * 4));
+        AtomicInteger failed = new AtomicInteger();
+
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        for (int start = 0; start < size; start += chunkSize) {
+            int from = start;
+            int to = Math.min(size, start + chunkSize);
+            chunks.add(CompletableFuture.runAsync(() -> {
+                for (int index = from; index < to; index++) {
+                    results[index] = load(index, source, listener, currentVersion, failed);
+                }
+            }, executor));
+        }
+
+        return CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0])).thenApply(ignored -> {
+            if (failed.get() > 0) {
+                PeachLib.getPlugin().getLogger().warning(failed.get() + " of " + size + " items could not be deserialized.");
+            }
+            return Arrays.asList(results);
+        });
+    }
+
+    private static @Nullable ItemStack load(int index, @NotNull IntFunction<byte[]> source, @Nullable MigrationListener listener,
+                                            int currentVersion, @NotNull AtomicInteger failed) {
+        try {
+            byte[] blob = source.apply(index);
+            ItemStack itemStack = ItemSerializer.deserializeFromBytes(blob);
+
+            if (listener != null) {
+                int storedVersion = getDataVersion(blob);
+                if (storedVersion >= 0 && storedVersion < currentVersion) {
+                    byte[] upgraded = ItemCompression.isCompressed(blob)
+                            ? ItemSerializer.serializeCompressed(itemStack)
+                            : itemStack.serializeAsBytes();
+                    listener.onMigrated(index, upgraded);
+                }
+            }
+            return itemStack;
+        } catch (RuntimeException e) {
+            failed.incrementAndGet();
+            return null;
+        }
+    }
+
+    // --- Minimal NBT scan ---
+
+    /**
+     * Finds the {@code DataVersion} int in the root compound, skipping all other tags.
+     */
+    static int readDataVersion(byte[] nbt) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(nbt);
+            if (buffer.get() != 10) return -1;
+            skipBytes(buffer, buffer.getShort() & 0xFFFF); // root name
+
+            while (buffer.hasRemaining()) {
+                byte type = buffer.get();
+                if (type == 0) return -1;
+                int nameLength = buffer.getShort() & 0xFFFF;
+                if (type == 3 && nameLength == DATA_VERSION.length && nameEquals(buffer, DATA_VERSION)) {
+                    return buffer.getInt(buffer.position() + nameLength);
+                }
+                skipBytes(buffer, nameLength);
+                skipPayload(buffer, type);
+            }
+            return -1;
+        } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            return -1;
+        }
+    }
+
+    private static boolean nameEquals(@NotNull ByteBuffer buffer, byte[] name) {
+        int position = buffer.position();
+        for (int i = 0; i < name.length; i++) {
+            if (buffer.get(position + i) != name[i]) return false;
+        }
+        return true;
+    }
+
+    private static void skipPayload(@NotNull ByteBuffer buffer, byte type) {
+        switch (type) {
+            case 1 -> skipBytes(buffer, 1);
+            case 2 -> skipBytes(buffer, 2);
+            case 3, 5 -> skipBytes(buffer, 4);
+            case 4, 6 -> skipBytes(buffer, 8);
+            case 7 -> skipBytes(buffer, buffer.getInt());
+            case 8 -> skipBytes(buffer, buffer.getShort() & 0xFFFF);
+            case 9 -> {
+                byte elementType = buffer.get();
+                int count = buffer.getInt();
+                for (int i = 0; i < count; i++) {
+                    skipPayload(buffer, elementType);
+                }
+            }
+            case 10 -> {
+                byte childType;
+                while ((childType = buffer.get()) != 0) {
+                    skipBytes(buffer, buffer.getShort() & 0xFFFF);
+                    skipPayload(buffer, childType);
+                }
+            }
+            case 11 -> skipBytes(buffer, buffer.getInt() * 4L);
+            case 12 -> skipBytes(buffer, buffer.getInt() * 8L);
+            default -> throw new IllegalArgumentException("Unknown NBT tag type: " + type);
+        }
+    }
+
+    private static void skipBytes(@NotNull ByteBuffer buffer, long count) {
+        if (count < 0 || count > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        buffer.position(buffer.position() + (int) count);
+    }
+}
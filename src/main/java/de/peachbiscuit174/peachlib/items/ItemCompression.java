@@ -0,0 +1,184 @@
+package de.peachbiscuit174.peachlib.items;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+
+/**
+ * The compressed PeachLib item format.
+ * <p>
+ * Paper's item bytes are gzip-compressed NBT. Small items gain little from gzip because the
+ * compressor has no history to refer to. This format unpacks the NBT and deflates it again with a
+ * preset dictionary of common item NBT names, which shrinks typical items considerably.
+ * </p>
+ * <p>
+ * Layout: {@code 'P' 'C'}, format version, raw deflate data. Paper's own format always starts
+ * with the gzip magic {@code 1F 8B}, so both can be told apart and old data keeps working.
+ * When the dictionary changes, the version is increased and the old dictionaries are kept for decoding.
+ * </p>
+ *
+ * @author peachbiscuit174
+ * @since 1.0.0
+ */
+final class ItemCompression {
+
+    private static final byte MAGIC_0 = 'P';
+    private static final byte MAGIC_1 = 'C';
+    private static final byte VERSION_1 = 1;
+
+    private static final byte[] DICTIONARY_V1 = buildDictionary(
+            // Rarely used entries first: deflate reaches the end of the dictionary with the shortest distances
+            "minecraft:attribute_modifiers", "minecraft:tooltip_display", "hidden_components", "minecraft:dyed_color",
+            "minecraft:potion_contents", "minecraft:trim", "minecraft:stored_enchantments", "minecraft:repair_cost",
+            "minecraft:profile", "properties", "textures", "signature", "value", "name",
+            "minecraft:player_head", "minecraft:diamond_sword", "minecraft:netherite_sword", "minecraft:diamond_pickaxe",
+            "minecraft:netherite_pickaxe", "minecraft:elytra", "minecraft:enchanted_book",
+            "minecraft:sharpness", "minecraft:unbreaking", "minecraft:mending", "minecraft:efficiency",
+            "minecraft:protection", "minecraft:fortune", "minecraft:looting", "levels",
+            "minecraft:unbreakable", "minecraft:damage", "minecraft:max_damage",
+            "minecraft:custom_model_data", "floats", "flags", "strings",
+            "minecraft:custom_data", "PublicBukkitValues", "peachlib:gui_protected_ppl", "peachlib:",
+            "minecraft:enchantments", "minecraft:item_name",
+            "color", "bold", "italic", "underlined", "strikethrough", "obfuscated", "extra", "text",
+            "minecraft:lore", "minecraft:custom_name", "components", "count", "id", "DataVersion"
+    );
+
+    private ItemCompression() {
+    }
+
+    /**
+     * @return {@code true} if the data is in the compressed format (any version).
+     */
+    static boolean isCompressed(byte[] data) {
+        return data.length >= 3 && data[0] == MAGIC_0 && data[1] == MAGIC_1;
+    }
+
+    /**
+     * Converts Paper's item bytes into the compressed format.
+     *
+     * @param paperBytes The result of {@code ItemStack#serializeAsBytes()}.
+     * @return The compressed data.
+     */
+    static byte[] compress(byte[] paperBytes) {
+        byte[] nbt = gunzip(paperBytes);
+
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+        try {
+            deflater.setDictionary(DICTIONARY_V1);
+            deflater.setInput(nbt);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(nbt.length / 2 + 16);
+            out.write(MAGIC_0);
+            out.write(MAGIC_1);
+            out.write(VERSION_1);
+            byte[] buffer = new byte[512];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Converts the compressed format back into Paper's item bytes.
+     *
+     * @param data The compressed data.
+     * @return The bytes for {@code ItemStack#deserializeBytes(byte[])}.
+     * @throws IllegalArgumentException If the data is invalid or has an unknown version.
+     */
+    static byte[] decompress(byte[] data) {
+        return gzip(inflate(data));
+    }
+
+    /**
+     * Returns the uncompressed NBT of an item in either format.
+     *
+     * @param data Paper's item bytes or the compressed format.
+     * @return The raw NBT.
+     * @throws IllegalArgumentException If the data is invalid.
+     */
+    static byte[] toRawNbt(byte[] data) {
+        return isCompressed(data) ? inflate(data) : gunzip(data);
+    }
+
+    private static byte[] inflate(byte[] data) {
+        if (!isCompressed(data)) {
+            throw new IllegalArgumentException("Not a compressed item");
+        }
+        byte[] dictionary = switch (data[2]) {
+            case VERSION_1 -> DICTIONARY_V1;
+            default -> throw new IllegalArgumentException("Unsupported compressed item version: " + data[2]);
+        };
+
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setDictionary(dictionary);
+            inflater.setInput(data, 3, data.length - 3);
+
+            ByteArrayOutputStream nbt = new ByteArrayOutputStream(data.length * 3);
+            byte[] buffer = new byte[1024];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("Truncated compressed item");
+                }
+                nbt.write(buffer, 0, length);
+            }
+            return nbt.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Invalid compressed item", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static byte[] gunzip(byte[] gzipped) {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Item bytes are not gzip compressed", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(raw);
+        } catch (IOException e) {
+            // Cannot happen for in-memory streams
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Encodes the names like NBT does (unsigned short length + UTF-8), so they match the raw data.
+     */
+    private static byte[] buildDictionary(@NotNull String... names) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            for (String name : names) {
+                byte[] utf8 = name.getBytes(StandardCharsets.UTF_8);
+                out.writeShort(utf8.length);
+                out.write(utf8);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,139 @@
+package de.peachbiscuit174.peachlib.items;
+
+import io.papermc.paper.datacomponent.DataComponentType;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Computes a 64-bit fingerprint of an {@link ItemStack}.
+ * <p>
+ * The fingerprint is a hash of the material, the amount and the item's data components, read
+ * directly through the data component API without serializing, cloning or encoding the item.
+ * Only components that differ from the material's defaults contribute their value; the others are
+ * fixed by the material. Equal items always have the same fingerprint, but different items can
+ * share one (e.g. items that only differ in their persistent data values), so {@link ItemIndex}
+ * confirms every hit with {@link #matches(ItemStack, ItemStack)}. The amount and selected data
+ * components can be left out. Lookups with an {@link ItemSpec} reuse the fingerprint cached in
+ * the spec; prefer specs (e.g. {@link ItemBuilder#toSpec()}) for items that are looked up repeatedly.
+ * </p>
+ * <p>
+ * Fingerprints are only stable while the server runs. They are not meant to be stored.
+ * </p>
+ *
+ * @author peachbiscuit174
+ * @since 1.0.0
+ */
+public final class ItemFingerprint {
+
+    /**
+     * Ignores the amount, like {@link ItemStack#isSimilar(ItemStack)}.
+     */
+    public static final ItemFingerprint SIMILAR = new ItemFingerprint(true, List.of());
+
+    /**
+     * Includes the amount, like {@link ItemStack#equals(Object)}.
+     */
+    public static final ItemFingerprint EXACT = new ItemFingerprint(false, List.of());
+
+    private static final long SEED = 0x9e3779b97f4a7c15L;
+
+    private final boolean ignoreAmount;
+    private final Set<DataComponentType> ignoredComponents;
+
+    private ItemFingerprint(boolean ignoreAmount, @NotNull List<DataComponentType> ignoredComponents) {
+        this.ignoreAmount = ignoreAmount;
+        this.ignoredComponents = Set.copyOf(ignoredComponents);
+    }
+
+    /**
+     * Creates a fingerprint that ignores the amount and the given data components,
+     * e.g. {@code DataComponentTypes.DAMAGE} to treat worn and new tools as equal.
+     *
+     * @param components The data components to ignore.
+     * @return A new ItemFingerprint.
+     */
+    public static @NotNull ItemFingerprint ignoring(@NotNull DataComponentType... components) {
+        return new ItemFingerprint(true, List.of(components));
+    }
+
+    /**
+     * Computes the fingerprint of an item.
+     *
+     * @param itemStack The item.
+     * @return The 64-bit fingerprint (0 for empty items).
+     */
+    public long compute(@NotNull ItemStack itemStack) {
+        if (itemStack.getType().isAir()) {
+            return 0L;
+        }
+
+        long hash = SEED + itemStack.getType().ordinal();
+        if (!ignoreAmount) {
+            hash = hash * 31 + itemStack.getAmount();
+        }
+
+        // Components are combined order-independently, since the set order is not defined
+        long components = 0L;
+        for (DataComponentType type : itemStack.getDataTypes()) {
+            if (ignoredComponents.contains(type)) continue;
+
+            long component = type.key().hashCode();
+            if (type instanceof DataComponentType.Valued<?> valued && itemStack.isDataOverridden(type)) {
+                component = component * 31 + Objects.hashCode(itemStack.getData(valued));
+            }
+            components += mix(component);
+        }
+
+        // Persistent data is not exposed as a component; its keys separate most plugin items
+        long persistentData = itemStack.getPersistentDataContainer().getKeys().hashCode();
+        return mix(mix(hash) + components * 31 + persistentData);
+    }
+
+    /**
+     * Compares two items the way this fingerprint does, e.g. with {@link ItemStack#isSimilar(ItemStack)}
+     * for {@link #SIMILAR}. Used to confirm that items with the same fingerprint are actually equal.
+     *
+     * @return {@code true} if the items are equal apart from the ignored parts.
+     */
+    public boolean matches(@NotNull ItemStack first, @NotNull ItemStack second) {
+        if (!ignoredComponents.isEmpty()) {
+            return first.matchesWithoutData(second, ignoredComponents, ignoreAmount);
+        }
+        return ignoreAmount ? first.isSimilar(second) : first.equals(second);
+    }
+
+    /**
+     * @return {@code true} if the amount is not part of the fingerprint.
+     */
+    public boolean isIgnoringAmount() {
+        return ignoreAmount;
+    }
+
+    /**
+     * 64-bit FNV-1a with a final avalanche step, so that similar inputs spread over the whole range.
+     */
+    static long hash(byte[] bytes) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * Final avalanche step (MurmurHash3 fmix64).
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
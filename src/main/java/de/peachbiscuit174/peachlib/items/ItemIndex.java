@@ -0,0 +1,214 @@
+package de.peachbiscuit174.peachlib.items;
+
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps items to values by their {@link ItemFingerprint}.
+ * <p>
+ * Lookups hash the item once and only compare it against the entries with the same
+ * fingerprint, instead of calling {@link ItemStack#isSimilar(ItemStack)} for every entry.
+ * Each entry keeps a copy of its item, so a fingerprint collision never mixes up two items.
+ * Typical uses are shop price tables or the item counts of an inventory
+ * (see {@link #countAmounts(ItemStack[])}). Lookups with an {@link ItemSpec} reuse the
+ * fingerprint cached in the spec.
+ * </p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>
+ * ItemIndex&lt;Integer&gt; amounts = ItemIndex.countAmounts(player.getInventory().getStorageContents());
+ * boolean hasRubies = amounts.getOrDefault(RUBY_SPEC, 0) &gt;= 10;
+ * </pre>
+ *
+ * @param <V> The value type.
+ * @author peachbiscuit174
+ * @since 1.0.0
+ */
+public class ItemIndex<V> {
+
+    private final ItemFingerprint fingerprint;
+    // Entries per fingerprint; items with colliding fingerprints are chained
+    private final Map<Long, Entry<V>> entries = new HashMap<>();
+    private int size;
+
+    /**
+     * Creates an index that ignores the amount of items.
+     */
+    public ItemIndex() {
+        this(ItemFingerprint.SIMILAR);
+    }
+
+    /**
+     * Creates an index with a custom fingerprint.
+     *
+     * @param fingerprint Defines which parts of an item are compared.
+     */
+    public ItemIndex(@NotNull ItemFingerprint fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Counts the total amount per item type of the given contents.
+     *
+     * @param contents The contents (e.g. {@code inventory.getStorageContents()}); {@code null} slots are skipped.
+     * @return A new index with the summed amounts.
+     */
+    public static @NotNull ItemIndex<Integer> countAmounts(ItemStack[] contents) {
+        ItemIndex<Integer> index = new ItemIndex<>();
+        for (ItemStack itemStack : contents) {
+            if (itemStack != null && !itemStack.getType().isAir()) {
+                long key = index.fingerprint.compute(itemStack);
+                Entry<Integer> entry = index.find(key, itemStack);
+                if (entry != null) {
+                    entry.value += itemStack.getAmount();
+                } else {
+                    index.insert(key, itemStack, itemStack.getAmount());
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Stores a value for the item, replacing the value of an equal item.
+     */
+    public @Nullable V put(@NotNull ItemStack itemStack, @NotNull V value) {
+        return put(fingerprint.compute(itemStack), itemStack, value);
+    }
+
+    /**
+     * Stores a value for the item of a spec, replacing the value of an equal item.
+     */
+    public @Nullable V put(@NotNull ItemSpec spec, @NotNull V value) {
+        return put(keyOf(spec), spec.getPrototype(), value);
+    }
+
+    /**
+     * @return The value of an equal item or {@code null}.
+     */
+    public @Nullable V get(@NotNull ItemStack itemStack) {
+        Entry<V> entry = find(fingerprint.compute(itemStack), itemStack);
+        return entry != null ? entry.value : null;
+    }
+
+    /**
+     * @return The value of an item equal to the spec or {@code null}.
+     */
+    public @Nullable V get(@NotNull ItemSpec spec) {
+        Entry<V> entry = find(keyOf(spec), spec.getPrototype());
+        return entry != null ? entry.value : null;
+    }
+
+    /**
+     * @return The value of an equal item or the default value.
+     */
+    public @NotNull V getOrDefault(@NotNull ItemStack itemStack, @NotNull V defaultValue) {
+        V value = get(itemStack);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * @return The value of an item equal to the spec or the default value.
+     */
+    public @NotNull V getOrDefault(@NotNull ItemSpec spec, @NotNull V defaultValue) {
+        V value = get(spec);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * @return {@code true} if the index has a value for an equal item.
+     */
+    public boolean contains(@NotNull ItemStack itemStack) {
+        return find(fingerprint.compute(itemStack), itemStack) != null;
+    }
+
+    /**
+     * @return {@code true} if the index has a value for an item equal to the spec.
+     */
+    public boolean contains(@NotNull ItemSpec spec) {
+        return find(keyOf(spec), spec.getPrototype()) != null;
+    }
+
+    /**
+     * Removes the value of an equal item.
+     */
+    public @Nullable V remove(@NotNull ItemStack itemStack) {
+        long key = fingerprint.compute(itemStack);
+        Entry<V> previous = null;
+        for (Entry<V> entry = entries.get(key); entry != null; previous = entry, entry = entry.next) {
+            if (fingerprint.matches(entry.itemStack, itemStack)) {
+                if (previous != null) {
+                    previous.next = entry.next;
+                } else if (entry.next != null) {
+                    entries.put(key, entry.next);
+                } else {
+                    entries.remove(key);
+                }
+                size--;
+                return entry.value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return The number of distinct items.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        entries.clear();
+        size = 0;
+    }
+
+    private long keyOf(@NotNull ItemSpec spec) {
+        return spec.getFingerprint(fingerprint);
+    }
+
+    private @Nullable V put(long key, @NotNull ItemStack itemStack, @NotNull V value) {
+        Entry<V> entry = find(key, itemStack);
+        if (entry != null) {
+            V previous = entry.value;
+            entry.value = value;
+            return previous;
+        }
+        insert(key, itemStack, value);
+        return null;
+    }
+
+    private @Nullable Entry<V> find(long key, @NotNull ItemStack itemStack) {
+        for (Entry<V> entry = entries.get(key); entry != null; entry = entry.next) {
+            if (fingerprint.matches(entry.itemStack, itemStack)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private void insert(long key, @NotNull ItemStack itemStack, @NotNull V value) {
+        // The item is copied, so later changes to the caller's stack cannot break the index
+        entries.put(key, new Entry<>(itemStack.clone(), value, entries.get(key)));
+        size++;
+    }
+
+    private static final class Entry<V> {
+        private final ItemStack itemStack;
+        private V value;
+        private Entry<V> next;
+
+        private Entry(@NotNull ItemStack itemStack, @NotNull V value, @Nullable Entry<V> next) {
+            this.itemStack = itemStack;
+            this.value = value;
+            this.next = next;
+        }
+    }
+}
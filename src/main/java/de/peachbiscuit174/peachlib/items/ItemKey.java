@@ -0,0 +1,176 @@
+package de.peachbiscuit174.peachlib.items;
+
+import de.peachbiscuit174.peachlib.PeachLib;
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataAdapterContext;
+import org.bukkit.persistence.PersistentDataType;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * A typed key for values stored on items via {@link ItemTag}.
+ * <p>
+ * The {@link NamespacedKey} and the {@link PersistentDataType} are resolved once when the key
+ * is created. Keys are meant to be stored in constants and reused, so reads and writes skip
+ * any string handling.
+ * </p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>
+ * public static final ItemKey&lt;UUID&gt; ITEM_ID = ItemKey.ofUUID("item_id");
+ * public static final ItemKey&lt;Integer&gt; KILLS = ItemKey.ofInt("kills");
+ *
+ * ItemTag.setValue(sword, KILLS, ItemTag.getInt(sword, KILLS, 0) + 1);
+ * </pre>
+ *
+ * @param <T> The type of the stored value.
+ * @author peachbiscuit174
+ * @since 1.0.0
+ */
+public final class ItemKey<T> {
+
+    /**
+     * Stores a {@link UUID} as 16 bytes instead of a 36 character string.
+     */
+    public static final PersistentDataType<byte[], UUID> UUID_TYPE = new UUIDDataType();
+
+    private final NamespacedKey namespacedKey;
+    private final PersistentDataType<?, T> type;
+
+    private ItemKey(@NotNull NamespacedKey namespacedKey, @NotNull PersistentDataType<?, T> type) {
+        this.namespacedKey = namespacedKey;
+        this.type = type;
+    }
+
+    /**
+     * Creates a key with a custom namespace and data type.
+     *
+     * @param namespacedKey The key.
+     * @param type          The data type of the value.
+     * @param <T>           The type of the stored value.
+     * @return A new ItemKey.
+     */
+    public static <T> @NotNull ItemKey<T> of(@NotNull NamespacedKey namespacedKey, @NotNull PersistentDataType<?, T> type) {
+        return new ItemKey<>(namespacedKey, type);
+    }
+
+    /**
+     * Creates a key in the PeachLib namespace. The name is normalized like {@link ItemTag} keys.
+     *
+     * @param name The key name.
+     * @param type The data type of the value.
+     * @param <T>  The type of the stored value.
+     * @return A new ItemKey.
+     */
+    public static <T> @NotNull ItemKey<T> of(@NotNull String name, @NotNull PersistentDataType<?, T> type) {
+        return new ItemKey<>(new NamespacedKey(PeachLib.getPlugin(), TagKey.normalize(name)), type);
+    }
+
+    /**
+     * Creates a key for an {@code int} value in the PeachLib namespace.
+     *
+     * @param name The key name.
+     * @return A new ItemKey.
+     */
+    public static @NotNull ItemKey<Integer> ofInt(@NotNull String name) {
+        return of(name, PersistentDataType.INTEGER);
+    }
+
+    /**
+     * Creates a key for a {@code long} value in the PeachLib namespace.
+     *
+     * @param name The key name.
+     * @return A new ItemKey.
+     */
+    public static @NotNull ItemKey<Long> ofLong(@NotNull String name) {
+        return of(name, PersistentDataType.LONG);
+    }
+
+    /**
+     * Creates a key for a string value in the PeachLib namespace.
+     *
+     * @param name The key name.
+     * @return A new ItemKey.
+     */
+    public static @NotNull ItemKey<String> ofString(@NotNull String name) {
+        return of(name, PersistentDataType.STRING);
+    }
+
+    /**
+     * Creates a key for a {@link UUID}, stored as 16 bytes in the PeachLib namespace.
+     *
+     * @param name The key name.
+     * @return A new ItemKey.
+     */
+    public static @NotNull ItemKey<UUID> ofUUID(@NotNull String name) {
+        return of(name, UUID_TYPE);
+    }
+
+    /**
+     * Creates a key for a compact binary payload in the PeachLib namespace.
+     *
+     * @param name The key name.
+     * @return A new ItemKey.
+     */
+    public static @NotNull ItemKey<byte[]> ofBytes(@NotNull String name) {
+        return of(name, PersistentDataType.BYTE_ARRAY);
+    }
+
+    /**
+     * @return The resolved {@link NamespacedKey}.
+     */
+    public @NotNull NamespacedKey getNamespacedKey() {
+        return namespacedKey;
+    }
+
+    /**
+     * @return The data type of the value.
+     */
+    public @NotNull PersistentDataType<?, T> getType() {
+        return type;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ItemKey<?> other && namespacedKey.equals(other.namespacedKey) && type.equals(other.type);
+    }
+
+    @Override
+    public int hashCode() {
+        return namespacedKey.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "ItemKey{" + namespacedKey + "}";
+    }
+
+    private static final class UUIDDataType implements PersistentDataType<byte[], UUID> {
+
+        @Override
+        public @NotNull Class<byte[]> getPrimitiveType() {
+            return byte[].class;
+        }
+
+        @Override
+        public @NotNull Class<UUID> getComplexType() {
+            return UUID.class;
+        }
+
+        @Override
+        public byte[] toPrimitive(@NotNull UUID complex, @NotNull PersistentDataAdapterContext context) {
+            return ByteBuffer.allocate(16)
+                    .putLong(complex.getMostSignificantBits())
+                    .putLong(complex.getLeastSignificantBits())
+                    .array();
+        }
+
+        @Override
+        public @NotNull UUID fromPrimitive(byte[] primitive, @NotNull PersistentDataAdapterContext context) {
+            ByteBuffer buffer = ByteBuffer.wrap(primitive);
+            return new UUID(buffer.getLong(), buffer.getLong());
+        }
+    }
+}
@@ -0,0 +1,380 @@
+package de.peachbiscuit174.peachlib.items;
+
+import de.peachbiscuit174.peachlib.PeachLib;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+/**
+ * A persistent virtual inventory stored as a memory-mapped, append-only log.
+ * <p>
+ * Every change appends one record (slot + item in the compressed format) instead of rewriting
+ * the whole inventory, so a write costs only the size of the change. An in-memory index maps each
+ * slot to its latest record; reading a slot only decodes that single item.
+ * </p>
+ * <p>
+ * Record layout: {@code int length, byte type, int slot, item bytes, int CRC32}. On open the log is
+ * replayed up to the first incomplete or corrupted record, so a crash in the middle of a write only
+ * loses that write. Outdated records are removed by {@link #compact()}, which also runs automatically
+ * once they take up more space than the live data. If the compacted file cannot replace the log
+ * (e.g. on Windows, where a mapped file cannot be replaced), the log stays usable and automatic
+ * compaction is turned off for this instance. Changes reach the operating system immediately;
+ * {@link #force()} additionally flushes them to the disk.
+ * </p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>
+ * try (ItemLog vault = new ItemLog(new File(plugin.getDataFolder(), "vaults/" + uuid + ".log"))) {
+ *     vault.set(13, item);
+ *     ItemStack[] contents = vault.getContents(54);
+ * }
+ * </pre>
+ *
+ * @author peachbiscuit174
+ * @since 1.0.0
+ */
+public class ItemLog implements Closeable {
+
+    private static final int MAGIC = 0x50504C4C; // "PPLL"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int INITIAL_CAPACITY = 64 * 1024;
+    private static final int MIN_COMPACT_GARBAGE = 64 * 1024;
+
+    private static final byte TYPE_SET = 1;
+    private static final byte TYPE_CLEAR = 2;
+
+    private final Path path;
+    private final Map<Integer, Integer> offsets = new TreeMap<>();
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int end;
+    private long liveBytes;
+    private long garbageBytes;
+    private boolean autoCompact = true;
+
+    /**
+     * Opens or creates a log and replays its records.
+     *
+     * @param file The log file.
+     * @throws IOException If the file could not be opened or is not an item log.
+     */
+    public ItemLog(@NotNull File file) throws IOException {
+        this.path = file.toPath();
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        open();
+    }
+
+    /**
+     * Sets the item of a slot. {@code null} or air clears the slot.
+     *
+     * @param slot      The slot (0 or higher).
+     * @param itemStack The item.
+     * @throws IOException If the record could not be written.
+     */
+    public synchronized void set(int slot, @Nullable ItemStack itemStack) throws IOException {
+        if (slot < 0) {
+            throw new IllegalArgumentException("Slot must not be negative: " + slot);
+        }
+        ensureOpen();
+        boolean empty = itemStack == null || itemStack.getType().isAir();
+        write(slot, empty ? null : ItemSerializer.serializeCompressed(itemStack));
+    }
+
+    /**
+     * Reads the item of a slot.
+     *
+     * @param slot The slot.
+     * @return A new ItemStack or {@code null} if the slot is empty.
+     */
+    public synchronized @Nullable ItemStack get(int slot) {
+        ensureOpen();
+        Integer offset = offsets.get(slot);
+        return offset != null ? readItem(offset) : null;
+    }
+
+    /**
+     * Reads all slots into an array.
+     *
+     * @param size The size of the array; slots beyond it are ignored.
+     * @return The items indexed by slot; empty slots are {@code null}.
+     */
+    public synchronized ItemStack[] getContents(int size) {
+        ensureOpen();
+        ItemStack[] contents = new ItemStack[size];
+        for (Map.Entry<Integer, Integer> entry : offsets.entrySet()) {
+            if (entry.getKey() < size) {
+                contents[entry.getKey()] = readItem(entry.getValue());
+            }
+        }
+        return contents;
+    }
+
+    /**
+     * Replaces the stored contents. Only slots that actually changed are written.
+     *
+     * @param contents The items indexed by slot.
+     * @throws IOException If a record could not be written.
+     */
+    public synchronized void setContents(ItemStack[] contents) throws IOException {
+        ensureOpen();
+        for (Integer slot : offsets.keySet().toArray(new Integer[0])) {
+            if (slot >= contents.length) {
+                set(slot, null);
+            }
+        }
+        for (int slot = 0; slot < contents.length; slot++) {
+            ItemStack desired = contents[slot];
+            if (desired == null || desired.getType().isAir()) {
+                write(slot, null);
+                continue;
+            }
+
+            // Compare the encoded bytes; decoding the stored item would run the data fixers
+            byte[] data = ItemSerializer.serializeCompressed(desired);
+            Integer offset = offsets.get(slot);
+            if (offset == null || !recordEquals(offset, data)) {
+                write(slot, data);
+            }
+        }
+    }
+
+    /**
+     * @return The number of non-empty slots.
+     */
+    public synchronized int size() {
+        return offsets.size();
+    }
+
+    /**
+     * Flushes all written records to the disk.
+     */
+    public synchronized void force() {
+        ensureOpen();
+        buffer.force();
+    }
+
+    /**
+     * Rewrites the log with only the latest record of each slot and atomically replaces the file.
+     * <p>
+     * If the file cannot be replaced, the original log is reopened and stays usable.
+     * </p>
+     *
+     * @throws IOException If the compacted log could not be written or could not replace the file.
+     */
+    public synchronized void compact() throws IOException {
+        ensureOpen();
+        Path temp = path.resolveSibling(path.getFileName() + ".compact");
+
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).flip();
+            writeFully(out, header);
+            for (int offset : offsets.values()) {
+                int length = buffer.getInt(offset);
+                writeFully(out, buffer.slice(offset, 8 + length));
+            }
+            out.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        buffer.force();
+        channel.close();
+        channel = null;
+        buffer = null;
+
+        try {
+            try {
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        } finally {
+            // Reopens the compacted file, or the original one if the move failed
+            open();
+        }
+    }
+
+    /**
+     * Flushes and closes the log.
+     *
+     * @throws IOException If the file could not be closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            buffer.force();
+            channel.close();
+            channel = null;
+            buffer = null;
+        }
+    }
+
+    // --- Internal ---
+
+    /**
+     * Appends a record for the slot and compacts automatically if needed.
+     *
+     * @param data The compressed item, or {@code null} to clear the slot.
+     */
+    private void write(int slot, byte[] data) throws IOException {
+        if (data == null) {
+            if (!offsets.containsKey(slot)) return;
+            append(TYPE_CLEAR, slot, new byte[0]);
+        } else {
+            append(TYPE_SET, slot, data);
+        }
+
+        if (autoCompact && garbageBytes > MIN_COMPACT_GARBAGE && garbageBytes > liveBytes) {
+            try {
+                compact();
+            } catch (IOException e) {
+                // The record is already written; keep the log as it is
+                autoCompact = false;
+                PeachLib.getPlugin().getLogger().warning("Could not compact item log " + path + ", automatic compaction disabled: " + e.getMessage());
+            }
+        }
+    }
+
+    private void open() throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long fileSize = channel.size();
+        if (fileSize > Integer.MAX_VALUE) {
+            throw new IOException("Item log too large: " + path);
+        }
+
+        map((int) Math.max(INITIAL_CAPACITY, fileSize));
+        if (fileSize == 0 || buffer.getInt(0) == 0) {
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+        } else if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            channel.close();
+            throw new IOException("Not an item log: " + path);
+        }
+        recover();
+    }
+
+    /**
+     * Replays all valid records and stops at the first incomplete or corrupted one.
+     */
+    private void recover() {
+        offsets.clear();
+        liveBytes = 0;
+        garbageBytes = 0;
+
+        int position = HEADER_SIZE;
+        int capacity = buffer.capacity();
+        while (position + 4 <= capacity) {
+            int length = buffer.getInt(position);
+            if (length < 5 || (long) position + 8 + length > capacity) break;
+            if (checksum(position + 4, length) != buffer.getInt(position + 4 + length)) break;
+
+            byte type = buffer.get(position + 4);
+            int slot = buffer.getInt(position + 5);
+            index(type, slot, position, 8 + length);
+            position += 8 + length;
+        }
+        end = position;
+        if (end + 4 <= capacity) {
+            // Mark the end, so leftovers of a torn write are not mistaken for records
+            buffer.putInt(end, 0);
+        }
+    }
+
+    private void append(byte type, int slot, byte[] data) throws IOException {
+        int length = 1 + 4 + data.length;
+        int recordSize = 8 + length;
+        if ((long) end + recordSize + 4 > buffer.capacity()) {
+            long needed = (long) end + recordSize + 4;
+            long newCapacity = Math.max((long) buffer.capacity() * 2, needed);
+            if (newCapacity > Integer.MAX_VALUE) {
+                throw new IOException("Item log too large: " + path);
+            }
+            map((int) newCapacity);
+        }
+
+        int position = end;
+        buffer.put(position + 4, type);
+        buffer.putInt(position + 5, slot);
+        buffer.put(position + 9, data);
+        buffer.putInt(position + 4 + length, checksum(position + 4, length));
+        buffer.putInt(position + recordSize, 0);
+        // The length is written last, so an interrupted write is never seen as complete record
+        buffer.putInt(position, length);
+
+        end = position + recordSize;
+        index(type, slot, position, recordSize);
+    }
+
+    private void index(byte type, int slot, int position, int recordSize) {
+        Integer previous = offsets.remove(slot);
+        if (previous != null) {
+            int previousSize = 8 + buffer.getInt(previous);
+            liveBytes -= previousSize;
+            garbageBytes += previousSize;
+        }
+
+        if (type == TYPE_SET) {
+            offsets.put(slot, position);
+            liveBytes += recordSize;
+        } else {
+            garbageBytes += recordSize;
+        }
+    }
+
+    private @NotNull ItemStack readItem(int offset) {
+        int length = buffer.getInt(offset);
+        byte[] data = new byte[length - 5];
+        buffer.get(offset + 9, data);
+        return ItemSerializer.deserializeFromBytes(data);
+    }
+
+    private boolean recordEquals(int offset, byte[] data) {
+        int length = buffer.getInt(offset);
+        return length - 5 == data.length && buffer.slice(offset + 9, data.length).equals(ByteBuffer.wrap(data));
+    }
+
+    private int checksum(int position, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(position, length));
+        return (int) crc.getValue();
+    }
+
+    private void map(int capacity) throws IOException {
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    }
+
+    private void ensureOpen() {
+        if (channel == null) {
+            throw new IllegalStateException("Item log is closed: " + path);
+        }
+    }
+
+    private static void writeFully(@NotNull FileChannel channel, @NotNull ByteBuffer data) throws IOException {
+        while (data.hasRemaining()) {
+            channel.write(data);
+        }
+    }
+}
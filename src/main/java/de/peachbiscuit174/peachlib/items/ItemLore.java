@@ -1,7 +1,7 @@
 package de.peachbiscuit174.peachlib.items;
 
+import de.peachbiscuit174.peachlib.text.ComponentCache;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
@@ -20,7 +20,6 @@ import java.util.List;
 public class ItemLore {
 
     private final List<Component> lines = new ArrayList<>();
-    private static final MiniMessage MM = MiniMessage.miniMessage();
 
     /**
      * Adds a new line to the lore.
@@ -29,7 +28,7 @@ public class ItemLore {
      * @return This ItemLore instance for method chaining.
      */
     public @NotNull ItemLore add(@NotNull String text) {
-        this.lines.add(MM.deserialize(text));
+        this.lines.add(ComponentCache.parse(text));
         return this;
     }
 
@@ -0,0 +1,71 @@
+package de.peachbiscuit174.peachlib.items;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A compact reference to an item in an {@link ItemStore}.
+ * <p>
+ * The reference consists of the SHA-256 hash of the stored item (always stored with amount 1)
+ * and the amount. Its string form ({@code <hash>} or {@code <hash>x<amount>}) can be saved
+ * anywhere instead of the full item data.
+ * </p>
+ *
+ * @param hash   The SHA-256 hash as lowercase hex string.
+ * @param amount The stack size.
+ * @author peachbiscuit174
+ * @since 1.0.0
+ */
+public record ItemRef(@NotNull String hash, int amount) {
+
+    public ItemRef {
+        // The hash is used as file name by ItemStore, so only lowercase hex is accepted
+        if (hash.length() != 64 || !isLowerHex(hash)) {
+            throw new IllegalArgumentException("Invalid item hash: " + hash);
+        }
+        if (amount < 1) {
+            throw new IllegalArgumentException("Invalid amount: " + amount);
+        }
+    }
+
+    /**
+     * Parses the string form created by {@link #toString()}.
+     *
+     * @param value The string.
+     * @return The reference.
+     * @throws IllegalArgumentException If the string is not a valid reference.
+     */
+    public static @NotNull ItemRef parse(@NotNull String value) {
+        int separator = value.indexOf('x');
+        if (separator < 0) {
+            return new ItemRef(value, 1);
+        }
+        try {
+            return new ItemRef(value.substring(0, separator), Integer.parseInt(value.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid item reference: " + value, e);
+        }
+    }
+
+    /**
+     * @param amount The new stack size.
+     * @return A reference to the same item with another amount.
+     */
+    public @NotNull ItemRef withAmount(int amount) {
+        return new ItemRef(hash, amount);
+    }
+
+    private static boolean isLowerHex(@NotNull String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return amount == 1 ? hash : hash + "x" + amount;
+    }
+}
@@ -1,10 +1,17 @@
 package de.peachbiscuit174.peachlib.items;
 
+import de.peachbiscuit174.peachlib.other.BoundedCache;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collection;
 
 /**
  * A utility to serialize and deserialize ItemStacks to Base64 Strings.
@@ -15,6 +22,9 @@ import java.util.Base64;
  */
 public class ItemSerializer{
 
+    private static final BoundedCache<BytesKey, ItemStack> bytesCache = new BoundedCache<>(512);
+    private static final BoundedCache<String, ItemStack> base64Cache = new BoundedCache<>(512);
+
     /**
      * Serializes an ItemStack to a raw byte array using Paper's native serialization.
      *
@@ -27,12 +37,47 @@ public class ItemSerializer{
 
     /**
      * Deserializes a byte array back into an ItemStack.
+     * Accepts both Paper's native bytes and the compressed format of {@link #serializeCompressed(ItemStack)}.
      *
      * @param bytes The byte array.
      * @return The ItemStack.
+     * @throws IllegalArgumentException If the data is invalid.
      */
     public static @NotNull ItemStack deserializeFromBytes(byte[] bytes) {
-        return ItemStack.deserializeBytes(bytes);
+        return ItemStack.deserializeBytes(toPaperBytes(bytes));
+    }
+
+    /**
+     * Serializes an ItemStack into the compact PeachLib format.
+     * <p>
+     * The item NBT is compressed with a dictionary of common item data, so the result is
+     * usually much smaller than {@link #serializeToBytes(ItemStack)}. The data starts with a
+     * versioned header; {@link #deserializeFromBytes(byte[])} reads both formats.
+     * </p>
+     *
+     * @param item The item to serialize.
+     * @return The compressed byte array.
+     */
+    public static byte[] serializeCompressed(@NotNull ItemStack item) {
+        return ItemCompression.compress(item.serializeAsBytes());
+    }
+
+    /**
+     * Serializes an ItemStack into the compact PeachLib format as Base64 String.
+     * {@link #deserializeFromBase64(String)} reads both formats.
+     *
+     * @param item The item to serialize.
+     * @return A Base64 string representation.
+     */
+    public static @NotNull String serializeCompressedToBase64(@NotNull ItemStack item) {
+        return Base64.getEncoder().encodeToString(serializeCompressed(item));
+    }
+
+    /**
+     * Converts compressed data back into Paper's native bytes. Native bytes are returned as they are.
+     */
+    static byte[] toPaperBytes(byte[] bytes) {
+        return ItemCompression.isCompressed(bytes) ? ItemCompression.decompress(bytes) : bytes;
     }
 
     /**
@@ -49,6 +94,7 @@ public class ItemSerializer{
 
     /**
      * Deserializes a Base64 String back into an ItemStack.
+     * Accepts both the native and the compressed format.
      *
      * @param base64 The Base64 string.
      * @return The ItemStack, or null if the string is invalid.
@@ -56,9 +102,173 @@ public class ItemSerializer{
     public static @Nullable ItemStack deserializeFromBase64(@NotNull String base64) {
         try {
             byte[] bytes = Base64.getDecoder().decode(base64);
-            return ItemStack.deserializeBytes(bytes);
+            return ItemStack.deserializeBytes(toPaperBytes(bytes));
         } catch (IllegalArgumentException e) {
             return null;
         }
     }
-}
\ No newline at end of file
+
+    // --- Cached deserialization ---
+
+    /**
+     * Deserializes a byte array through a bounded cache.
+     * <p>
+     * The first call runs the full deserialization (including data upgrades); later calls with
+     * the same bytes return a clone of the cached result. Meant for data that is loaded
+     * repeatedly, e.g. shop items defined in a config.
+     * </p>
+     *
+     * @param bytes The byte array (native or compressed format).
+     * @return A new ItemStack.
+     * @throws IllegalArgumentException If the data is invalid.
+     */
+    public static @NotNull ItemStack deserializeCached(byte[] bytes) {
+        BytesKey key = new BytesKey(bytes);
+        ItemStack cached = bytesCache.getIfPresent(key);
+        if (cached == null) {
+            // Deserialized outside the cache lock; the stored key gets its own copy of the array
+            cached = bytesCache.putIfAbsent(new BytesKey(bytes.clone(), key.hash()), deserializeFromBytes(bytes));
+        }
+        return cached.clone();
+    }
+
+    /**
+     * Deserializes a Base64 String through a bounded cache.
+     * The cache is keyed by the string itself, so a cache hit does not decode anything.
+     *
+     * @param base64 The Base64 string.
+     * @return A new ItemStack, or null if the string is invalid.
+     */
+    public static @Nullable ItemStack deserializeCachedFromBase64(@NotNull String base64) {
+        ItemStack cached = base64Cache.getIfPresent(base64);
+        if (cached == null) {
+            try {
+                cached = base64Cache.putIfAbsent(base64, deserializeFromBytes(Base64.getDecoder().decode(base64)));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return cached.clone();
+    }
+
+    /**
+     * Changes the maximum number of cached items. Byte arrays and Base64 strings are cached
+     * separately, each with this size (default 512).
+     *
+     * @param maximumSize The maximum number of entries per cache.
+     */
+    public static void setCacheSize(int maximumSize) {
+        bytesCache.setMaximumSize(maximumSize);
+        base64Cache.setMaximumSize(maximumSize);
+    }
+
+    /**
+     * Removes all cached items and resets the statistics.
+     */
+    public static void clearCache() {
+        bytesCache.clear();
+        base64Cache.clear();
+    }
+
+    /**
+     * @return The number of cached deserializations that were answered from the cache.
+     */
+    public static long getCacheHitCount() {
+        return bytesCache.getHitCount() + base64Cache.getHitCount();
+    }
+
+    /**
+     * @return The number of cached deserializations that had to deserialize the data.
+     */
+    public static long getCacheMissCount() {
+        return bytesCache.getMissCount() + base64Cache.getMissCount();
+    }
+
+    /**
+     * Cache key for raw bytes. The hash is computed once; equality compares the full content,
+     * so a hash collision can never return the wrong item.
+     */
+    private record BytesKey(byte[] bytes, int hash) {
+        private BytesKey(byte[] bytes) {
+            this(bytes, Long.hashCode(ItemFingerprint.hash(bytes)));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof BytesKey other && hash == other.hash && Arrays.equals(bytes, other.bytes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    // --- Batch serialization ---
+
+    /**
+     * Serializes a whole inventory (e.g. {@code inventory.getContents()}) into one framed blob.
+     * Empty slots take no space; the slot positions are kept.
+     *
+     * @param contents The items (at most 65536 slots); {@code null} entries are allowed.
+     * @return The byte array, readable with {@link #deserializeItems(byte[])} or {@link ItemStreamReader}.
+     */
+    public static byte[] serializeItems(ItemStack[] contents) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ItemStreamWriter writer = new ItemStreamWriter(bytes, contents.length)) {
+            writer.writeAll(contents);
+        } catch (IOException e) {
+            // Cannot happen for in-memory streams
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Serializes a collection of items into one framed blob, using the iteration order as slots.
+     *
+     * @param items The items.
+     * @return The byte array, readable with {@link #deserializeItems(byte[])} or {@link ItemStreamReader}.
+     */
+    public static byte[] serializeItems(@NotNull Collection<ItemStack> items) {
+        return serializeItems(items.toArray(new ItemStack[0]));
+    }
+
+    /**
+     * Deserializes a blob created by {@link #serializeItems(ItemStack[])}.
+     *
+     * @param bytes The byte array.
+     * @return The items indexed by slot (empty slots are {@code null}), or null if the data is invalid.
+     */
+    public static ItemStack[] deserializeItems(byte[] bytes) {
+        try (ItemStreamReader reader = new ItemStreamReader(new ByteArrayInputStream(bytes))) {
+            return reader.readAll();
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Serializes a whole inventory into a single Base64 string.
+     *
+     * @param contents The items; {@code null} entries are allowed.
+     * @return A Base64 string representation.
+     */
+    public static @NotNull String serializeItemsToBase64(ItemStack[] contents) {
+        return Base64.getEncoder().encodeToString(serializeItems(contents));
+    }
+
+    /**
+     * Deserializes a Base64 string created by {@link #serializeItemsToBase64(ItemStack[])}.
+     *
+     * @param base64 The Base64 string.
+     * @return The items indexed by slot, or null if the string is invalid.
+     */
+    public static ItemStack[] deserializeItemsFromBase64(@NotNull String base64) {
+        try {
+            return deserializeItems(Base64.getDecoder().decode(base64));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package de.peachbiscuit174.peachlib.items;
+
+import de.peachbiscuit174.peachlib.text.ComponentCache;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.bukkit.Material;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.inventory.meta.components.CustomModelDataComponent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable item "recipe" that can be shared freely between threads.
+ * <p>
+ * Unlike {@link ItemBuilder}, a spec never changes after creation. The item is assembled once:
+ * name, lore, enchantments, flags, custom model data, item tags and typed values are written into a single
+ * {@link ItemMeta} and applied with one {@code setItemMeta} call. Every {@link #create()} afterwards
+ * is a single clone of that prebuilt item.
+ * </p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>
+ * ItemSpec ruby = ItemSpec.builder(Material.RED_DYE)
+ *         .name("&lt;red&gt;Ruby")
+ *         .lore("&lt;gray&gt;A rare gem")
+ *         .tag("ruby")
+ *         .build();
+ * player.getInventory().addItem(ruby.create());
+ * </pre>
+ *
+ * @author peachbiscuit174
+ * @since 1.0.0
+ */
+public final class ItemSpec {
+
+    private final ItemStack prototype;
+    private volatile long fingerprint;
+    private volatile boolean fingerprinted = false;
+    private final Map<ItemFingerprint, Long> customFingerprints = new ConcurrentHashMap<>();
+
+    private ItemSpec(@NotNull ItemStack prototype) {
+        this.prototype = prototype;
+    }
+
+    /**
+     * Creates a spec from an existing item. The item is copied.
+     *
+     * @param itemStack The item.
+     * @return A new ItemSpec.
+     */
+    public static @NotNull ItemSpec of(@NotNull ItemStack itemStack) {
+        return new ItemSpec(itemStack.clone());
+    }
+
+    /**
+     * Starts a new spec builder.
+     *
+     * @param material The material of the item.
+     * @return A new {@link Builder}.
+     */
+    public static @NotNull Builder builder(@NotNull Material material) {
+        return new Builder(material);
+    }
+
+    /**
+     * Creates a new item from this spec.
+     *
+     * @return A new {@link ItemStack}.
+     */
+    public @NotNull ItemStack create() {
+        return prototype.clone();
+    }
+
+    /**
+     * Creates a new item from this spec with a different amount.
+     *
+     * @param amount The stack size.
+     * @return A new {@link ItemStack}.
+     */
+    public @NotNull ItemStack create(int amount) {
+        ItemStack itemStack = prototype.clone();
+        itemStack.setAmount(amount);
+        return itemStack;
+    }
+
+    /**
+     * @return The shared prototype; callers must not modify it.
+     */
+    @NotNull ItemStack getPrototype() {
+        return prototype;
+    }
+
+    /**
+     * @return The material of the item.
+     */
+    public @NotNull Material getMaterial() {
+        return prototype.getType();
+    }
+
+    /**
+     * Checks whether an item was created from an equal spec (ignoring the amount).
+     *
+     * @param itemStack The item to check.
+     * @return {@code true} if the item is similar to this spec.
+     */
+    public boolean matches(@NotNull ItemStack itemStack) {
+        return prototype.isSimilar(itemStack);
+    }
+
+    /**
+     * Returns the {@link ItemFingerprint#SIMILAR} fingerprint of the item.
+     * It is computed on the first call and cached afterwards.
+     *
+     * @return The 64-bit fingerprint.
+     */
+    public long getFingerprint() {
+        if (!fingerprinted) {
+            fingerprint = ItemFingerprint.SIMILAR.compute(prototype);
+            fingerprinted = true;
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Returns the fingerprint of the item for a custom {@link ItemFingerprint}.
+     * It is computed on the first call per fingerprint and cached afterwards.
+     *
+     * @param itemFingerprint Defines which parts of the item are compared.
+     * @return The 64-bit fingerprint.
+     */
+    public long getFingerprint(@NotNull ItemFingerprint itemFingerprint) {
+        if (itemFingerprint == ItemFingerprint.SIMILAR) {
+            return getFingerprint();
+        }
+        return customFingerprints.computeIfAbsent(itemFingerprint, key -> key.compute(prototype));
+    }
+
+    /**
+     * Starts an {@link ItemBuilder} based on this spec, e.g. to create a modified variant.
+     *
+     * @return A new ItemBuilder.
+     */
+    public @NotNull ItemBuilder toBuilder() {
+        return new ItemBuilder(prototype);
+    }
+
+    /**
+     * Collects the values of an {@link ItemSpec}. Nothing is applied to an item before {@link #build()}.
+     */
+    public static final class Builder {
+        private final Material material;
+        private int amount = 1;
+        private Component name;
+        private final List<Component> lore = new ArrayList<>();
+        private final Map<Enchantment, Integer> enchantments = new LinkedHashMap<>();
+        private final Set<ItemFlag> flags = EnumSet.noneOf(ItemFlag.class);
+        private final Set<String> tags = new LinkedHashSet<>();
+        private final Map<ItemKey<?>, Object> values = new LinkedHashMap<>();
+        private boolean unbreakable = false;
+        private float customModelData = -1;
+
+        private Builder(@NotNull Material material) {
+            this.material = material;
+        }
+
+        /**
+         * @param amount The stack size.
+         * @return The current Builder instance.
+         */
+        public @NotNull Builder amount(int amount) {
+            this.amount = Math.max(1, amount);
+            return this;
+        }
+
+        /**
+         * @param displayName The display name (supports MiniMessage).
+         * @return The current Builder instance.
+         */
+        public @NotNull Builder name(@NotNull String displayName) {
+            this.name = ComponentCache.parse(displayName);
+            return this;
+        }
+
+        /**
+         * @param displayName The display name.
+         * @return The current Builder instance.
+         */
+        public @NotNull Builder name(@NotNull Component displayName) {
+            this.name = displayName;
+            return this;
+        }
+
+        /**
+         * Adds lore lines.
+         *
+         * @param lines The lines (support MiniMessage).
+         * @return The current Builder instance.
+         */
+        public @NotNull Builder lore(@NotNull String... lines) {
+            for (String line : lines) {
+                this.lore.add(ComponentCache.parse(line));
+            }
+            return this;
+        }
+
+        /**
+         * Adds the lines of an {@link ItemLore}.
+         *
+         * @param itemLore The lore.
+         * @return The current Builder instance.
+         */
+        public @NotNull Builder lore(@NotNull ItemLore itemLore) {
+            this.lore.addAll(itemLore.build());
+            return this;
+        }
+
+        /**
+         * Adds an enchantment. The level is not restricted.
+         *
+         * @param enchantment The enchantment.
+         * @param level       The level.
+         * @return The current Builder instance.
+         */
+        public @NotNull Builder enchant(@NotNull Enchantment enchantment, int level) {
+            this.enchantments.put(enchantment, level);
+            return this;
+        }
+
+        /**
+         * @param flags The flags to add.
+         * @return The current Builder instance.
+         */
+        public @NotNull Builder flags(@NotNull ItemFlag... flags) {
+            this.flags.addAll(List.of(flags));
+            return this;
+        }
+
+        /**
+         * @param unbreakable True if the item should not break.
+         * @return The current Builder instance.
+         */
+        public @NotNull Builder unbreakable(boolean unbreakable) {
+            this.unbreakable = unbreakable;
+            return this;
+        }
+
+        /**
+         * Sets the custom model data using the modern CustomModelDataComponent.
+         *
+         * @param customModelData The float value used for resource pack overrides.
+         * @return The current Builder instance.
+         */
+        public @NotNull Builder customModelData(float customModelData) {
+            if (customModelData >= 0) {
+                this.customModelData = customModelData;
+            }
+            return this;
+        }
+
+        /**
+         * Adds an item tag (see {@link ItemTag}).
+         *
+         * @param tag The tag key.
+         * @return The current Builder instance.
+         */
+        public @NotNull Builder tag(@NotNull String tag) {
+            this.tags.add(tag);
+            return this;
+        }
+
+        /**
+         * Stores a typed value on the item (see {@link ItemKey}).
+         *
+         * @param key   The key.
+         * @param value The value.
+         * @param <T>   The type of the value.
+         * @return The current Builder instance.
+         */
+        public <T> @NotNull Builder value(@NotNull ItemKey<T> key, @NotNull T value) {
+            this.values.put(key, value);
+            return this;
+        }
+
+        /**
+         * Assembles the item with a single meta write and returns the immutable spec.
+         * The builder can be reused afterwards.
+         *
+         * @return A new ItemSpec.
+         */
+        public @NotNull ItemSpec build() {
+            ItemStack itemStack = new ItemStack(material, amount);
+            ItemMeta meta = itemStack.getItemMeta();
+            if (meta != null) {
+                if (name != null) {
+                    meta.displayName(name.decoration(TextDecoration.ITALIC, false));
+                }
+                if (!lore.isEmpty()) {
+                    List<Component> finalLore = new ArrayList<>(lore.size());
+                    for (Component line : lore) {
+                        finalLore.add(line.decoration(TextDecoration.ITALIC, false));
+                    }
+                    meta.lore(finalLore);
+                }
+                for (Map.Entry<Enchantment, Integer> entry : enchantments.entrySet()) {
+                    meta.addEnchant(entry.getKey(), entry.getValue(), true);
+                }
+                if (!flags.isEmpty()) {
+                    meta.addItemFlags(flags.toArray(new ItemFlag[0]));
+                }
+                if (unbreakable) {
+                    meta.setUnbreakable(true);
+                }
+                if (customModelData != -1) {
+                    CustomModelDataComponent component = meta.getCustomModelDataComponent();
+                    component.setFloats(List.of(customModelData));
+                    component.setFlags(List.of(true));
+                    meta.setCustomModelDataComponent(component);
+                }
+                ItemTag.applyTags(meta, tags);
+                for (Map.Entry<ItemKey<?>, Object> entry : values.entrySet()) {
+                    applyValue(meta, entry.getKey(), entry.getValue());
+                }
+                itemStack.setItemMeta(meta);
+            }
+            return new ItemSpec(itemStack);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> void applyValue(@NotNull ItemMeta meta, @NotNull ItemKey<T> key, @NotNull Object value) {
+            ItemTag.applyValue(meta, key, (T) value);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package de.peachbiscuit174.peachlib.items;
+
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * A content-addressed, file-backed store that keeps every distinct item only once.
+ * <p>
+ * Items are stored with amount 1 in the compressed format (see {@link ItemSerializer#serializeCompressed(ItemStack)})
+ * under the SHA-256 hash of their data. Storing an item that is already present only
+ * computes the hash; the returned {@link ItemRef} (hash + amount) can be saved instead of the item.
+ * Files are spread over subfolders by the first two hash characters and written atomically.
+ * </p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>
+ * ItemStore store = new ItemStore(new File(plugin.getDataFolder(), "items"));
+ * String ref = store.store(item).toString();   // save this string
+ * ItemStack loaded = store.load(ItemRef.parse(ref));
+ * </pre>
+ *
+ * @author peachbiscuit174
+ * @since 1.0.0
+ */
+public class ItemStore {
+
+    private static final String EXTENSION = ".item";
+
+    private final Path folder;
+    private final Set<String> knownHashes = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Opens a store. The folder is created if it does not exist; existing entries are indexed.
+     *
+     * @param folder The folder of the store.
+     * @throws IOException If the folder could not be created or read.
+     */
+    public ItemStore(@NotNull File folder) throws IOException {
+        this.folder = folder.toPath();
+        Files.createDirectories(this.folder);
+        try (Stream<Path> files = Files.walk(this.folder, 2)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(EXTENSION))
+                    .map(name -> name.substring(0, name.length() - EXTENSION.length()))
+                    .forEach(knownHashes::add);
+        }
+    }
+
+    /**
+     * Stores an item if no equal item is stored yet.
+     *
+     * @param itemStack The item.
+     * @return The reference to the item (with the item's amount).
+     * @throws IOException If the item could not be written.
+     */
+    public @NotNull ItemRef store(@NotNull ItemStack itemStack) throws IOException {
+        ItemStack single = itemStack;
+        if (itemStack.getAmount() != 1) {
+            single = itemStack.clone();
+            single.setAmount(1);
+        }
+
+        byte[] data = single.serializeAsBytes();
+        String hash = sha256(data);
+        if (!knownHashes.contains(hash)) {
+            write(hash, ItemCompression.compress(data));
+            knownHashes.add(hash);
+        }
+        return new ItemRef(hash, itemStack.getAmount());
+    }
+
+    /**
+     * Loads a stored item.
+     *
+     * @param ref The reference.
+     * @return A new ItemStack with the amount of the reference, or {@code null} if the item is not stored.
+     * @throws IOException If the item could not be read.
+     */
+    public @Nullable ItemStack load(@NotNull ItemRef ref) throws IOException {
+        if (!knownHashes.contains(ref.hash())) {
+            return null;
+        }
+
+        byte[] data;
+        try {
+            data = Files.readAllBytes(pathOf(ref.hash()));
+        } catch (NoSuchFileException e) {
+            knownHashes.remove(ref.hash());
+            return null;
+        }
+
+        ItemStack itemStack = ItemSerializer.deserializeFromBytes(data);
+        itemStack.setAmount(ref.amount());
+        return itemStack;
+    }
+
+    /**
+     * @param ref The reference.
+     * @return {@code true} if the referenced item is stored.
+     */
+    public boolean contains(@NotNull ItemRef ref) {
+        return knownHashes.contains(ref.hash());
+    }
+
+    /**
+     * Deletes all items that are not referenced anymore, e.g. after a cleanup of the saved data.
+     *
+     * @param refs All references that are still in use.
+     * @return The number of deleted items.
+     * @throws IOException If an item could not be deleted.
+     */
+    public int retainOnly(@NotNull Collection<ItemRef> refs) throws IOException {
+        Set<String> used = new HashSet<>();
+        for (ItemRef ref : refs) {
+            used.add(ref.hash());
+        }
+
+        int removed = 0;
+        for (String hash : Set.copyOf(knownHashes)) {
+            if (!used.contains(hash)) {
+                Files.deleteIfExists(pathOf(hash));
+                knownHashes.remove(hash);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * @return The number of distinct stored items.
+     */
+    public int size() {
+        return knownHashes.size();
+    }
+
+    private void write(@NotNull String hash, byte[] data) throws IOException {
+        Path target = pathOf(hash);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), hash, ".tmp");
+        try {
+            Files.write(temp, data);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private @NotNull Path pathOf(@NotNull String hash) {
+        return folder.resolve(hash.substring(0, 2)).resolve(hash + EXTENSION);
+    }
+
+    private static @NotNull String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package de.peachbiscuit174.peachlib.items;
+
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Reads items written by {@link ItemStreamWriter}, one entry at a time.
+ * <p>
+ * Only the current item is held in memory, so large dumps can be processed entry by entry
+ * with {@link #next()}. {@link #readAll()} rebuilds the whole slot array.
+ * </p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>
+ * try (ItemStreamReader reader = new ItemStreamReader(in)) {
+ *     ItemStreamReader.Entry entry;
+ *     while ((entry = reader.next()) != null) {
+ *         inventory.setItem(entry.slot(), entry.item());
+ *     }
+ * }
+ * </pre>
+ *
+ * @author peachbiscuit174
+ * @since 1.0.0
+ */
+public class ItemStreamReader implements Closeable {
+
+    private static final int MAX_ITEM_BYTES = 8 * 1024 * 1024;
+
+    private final DataInputStream in;
+    private final int size;
+    private boolean finished = false;
+
+    /**
+     * Creates a reader and reads the header.
+     *
+     * @param inputStream The source stream (closed by {@link #close()}).
+     * @throws IOException If the header is missing or invalid.
+     */
+    public ItemStreamReader(@NotNull InputStream inputStream) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(inputStream));
+        if (in.readInt() != ItemStreamWriter.MAGIC) {
+            throw new IOException("Not a PeachLib item stream");
+        }
+        int version = in.readUnsignedByte();
+        if (version != ItemStreamWriter.VERSION) {
+            throw new IOException("Unsupported item stream version: " + version);
+        }
+        this.size = readVarInt(in);
+        if (size < 0 || size > ItemStreamWriter.MAX_SLOTS) {
+            throw new IOException("Invalid size: " + size);
+        }
+    }
+
+    /**
+     * @return The number of slots of the source inventory, or 0 if unknown.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Reads the next non-empty slot.
+     * If the stream has a size, slots outside of it are rejected.
+     *
+     * @return The entry, or {@code null} at the end of the data.
+     * @throws IOException If the data is truncated or invalid.
+     */
+    public @Nullable Entry next() throws IOException {
+        if (finished) {
+            return null;
+        }
+
+        int slotPlusOne = readVarInt(in);
+        if (slotPlusOne == 0) {
+            finished = true;
+            return null;
+        }
+        // A known size bounds the slots, so readAll() never grows past the stored size
+        if (slotPlusOne < 0 || slotPlusOne > (size > 0 ? size : ItemStreamWriter.MAX_SLOTS)) {
+            throw new IOException("Invalid slot: " + (slotPlusOne - 1));
+        }
+
+        int length = readVarInt(in);
+        if (length <= 0 || length > MAX_ITEM_BYTES) {
+            throw new IOException("Invalid item length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+
+        try {
+            return new Entry(slotPlusOne - 1, ItemSerializer.deserializeFromBytes(bytes));
+        } catch (RuntimeException e) {
+            throw new IOException("Invalid item in slot " + (slotPlusOne - 1), e);
+        }
+    }
+
+    /**
+     * Reads all remaining entries into an array indexed by slot.
+     * The array has the stored size, or is just large enough if the size is unknown.
+     *
+     * @return The items; empty slots are {@code null}.
+     * @throws IOException If the data is truncated or invalid.
+     */
+    public ItemStack[] readAll() throws IOException {
+        ItemStack[] contents = new ItemStack[size];
+        Entry entry;
+        while ((entry = next()) != null) {
+            if (entry.slot() >= contents.length) {
+                contents = Arrays.copyOf(contents, Math.max(entry.slot() + 1, contents.length * 2));
+            }
+            contents[entry.slot()] = entry.item();
+        }
+
+        if (size > 0 || contents.length == 0) {
+            return contents;
+        }
+        int length = contents.length;
+        while (length > 0 && contents[length - 1] == null) {
+            length--;
+        }
+        return Arrays.copyOf(contents, length);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    static int readVarInt(@NotNull DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("VarInt too long");
+    }
+
+    /**
+     * A non-empty slot.
+     *
+     * @param slot The slot index.
+     * @param item The item.
+     */
+    public record Entry(int slot, @NotNull ItemStack item) {
+    }
+}
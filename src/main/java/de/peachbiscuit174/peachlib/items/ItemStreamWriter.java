@@ -0,0 +1,126 @@
+package de.peachbiscuit174.peachlib.items;
+
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes items into the framed PeachLib item format, one entry at a time.
+ * <p>
+ * Format: magic ({@code PPLI}), version byte, varint slot count (0 = unknown),
+ * then one entry per non-empty slot: varint (slot + 1), varint length, Paper's item bytes.
+ * A single {@code 0} ends the stream. Empty slots take no space at all.
+ * </p>
+ * <p>
+ * Each item is written as soon as it is passed in, so large dumps never have to be held in memory.
+ * Read the data with {@link ItemStreamReader}.
+ * </p>
+ *
+ * @author peachbiscuit174
+ * @since 1.0.0
+ */
+public class ItemStreamWriter implements Closeable {
+
+    static final int MAGIC = 0x50504C49; // "PPLI"
+    static final int VERSION = 1;
+    static final int MAX_SLOTS = 1 << 16; // readers reject larger sizes and slots
+
+    private final DataOutputStream out;
+    private final int slotLimit;
+    private boolean finished = false;
+
+    /**
+     * Creates a writer and writes the header.
+     *
+     * @param outputStream The target stream (closed by {@link #close()}).
+     * @param size         The number of slots of the source inventory (at most 65536), or 0 if unknown.
+     * @throws IOException If the header could not be written.
+     */
+    public ItemStreamWriter(@NotNull OutputStream outputStream, int size) throws IOException {
+        if (size > MAX_SLOTS) {
+            throw new IllegalArgumentException("Size must not exceed " + MAX_SLOTS + ": " + size);
+        }
+        this.slotLimit = size > 0 ? size : MAX_SLOTS;
+        this.out = new DataOutputStream(new BufferedOutputStream(outputStream));
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        writeVarInt(out, Math.max(0, size));
+    }
+
+    /**
+     * Writes the item of a slot. {@code null} and air are skipped.
+     *
+     * @param slot      The slot index (below the size, or 0 - 65535 if the size is unknown).
+     * @param itemStack The item.
+     * @throws IOException If the item could not be written.
+     */
+    public void write(int slot, @Nullable ItemStack itemStack) throws IOException {
+        if (finished) {
+            throw new IOException("Stream already finished");
+        }
+        if (slot < 0 || slot >= slotLimit) {
+            throw new IllegalArgumentException("Slot out of range: " + slot);
+        }
+        if (itemStack == null || itemStack.getType().isAir()) {
+            return;
+        }
+
+        byte[] bytes = itemStack.serializeAsBytes();
+        writeVarInt(out, slot + 1);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes all slots of an array, using the array index as slot.
+     *
+     * @param contents The items.
+     * @throws IOException If an item could not be written.
+     */
+    public void writeAll(ItemStack[] contents) throws IOException {
+        for (int slot = 0; slot < contents.length; slot++) {
+            write(slot, contents[slot]);
+        }
+    }
+
+    /**
+     * Writes the end marker and flushes, without closing the underlying stream.
+     *
+     * @throws IOException If the stream could not be written.
+     */
+    public void finish() throws IOException {
+        if (!finished) {
+            writeVarInt(out, 0);
+            out.flush();
+            finished = true;
+        }
+    }
+
+    /**
+     * Finishes the data and closes the underlying stream.
+     *
+     * @throws IOException If the stream could not be written or closed.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            finish();
+        } finally {
+            out.close();
+        }
+    }
+
+    static void writeVarInt(@NotNull DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+}
@@ -1,81 +1,321 @@
 package de.peachbiscuit174.peachlib.items;
 
 
-import de.peachbiscuit174.peachlib.PeachLib;
+import de.peachbiscuit174.peachlib.other.BoundedCache;
+import io.papermc.paper.persistence.PersistentDataContainerView;
 import org.bukkit.NamespacedKey;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
-import org.bukkit.plugin.Plugin;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 
 public class ItemTag {
-    private static final Plugin plugin = PeachLib.getPlugin();
-    private static final Map<String, NamespacedKey> keyCache = new ConcurrentHashMap<>();
+    private static final BoundedCache<String, TagKey> keyCache = new BoundedCache<>(1024);
+
+    /**
+     * Returns the handle for a tag name. Handles are cached in a bounded cache,
+     * so dynamic names (e.g. player names) cannot grow it without limit.
+     */
+    public static TagKey getTagKey(String key) {
+        return keyCache.get(key, name -> TagKey.of(name));
+    }
 
     private static NamespacedKey getKey(String key) {
-        return keyCache.computeIfAbsent(key, k ->
-                new NamespacedKey(plugin, k.toLowerCase().replace(" ", "_"))
-        );
+        return getTagKey(key).getNamespacedKey();
     }
 
+    // --- String keys ---
+
     public static ItemStack setItemTag (ItemStack itemStack, String key) {
-        if (itemStack != null && itemStack.getType().isItem()) {
+        if (key != null) {
+            setKeys(itemStack, List.of(getKey(key)));
+        }
+        return itemStack;
+    }
+
+    /**
+     * Adds several tags with a single meta read and write.
+     * Tags the item already has are skipped; if nothing is missing, the meta is not touched at all.
+     */
+    public static ItemStack setItemTags(ItemStack itemStack, Collection<String> keys) {
+        return keys != null ? setKeys(itemStack, resolve(keys)) : itemStack;
+    }
+
+    /**
+     * Writes tags into an existing meta, so they can be applied together with other changes
+     * in a single {@code setItemMeta} call.
+     */
+    static void applyTags(ItemMeta meta, Collection<String> keys) {
+        if (meta == null) return;
+        for (String key : keys) {
             if (key != null) {
-                if (!isItemTag(itemStack, key)) {
-                    ItemMeta meta = itemStack.getItemMeta();
-                    if (meta != null) {
-                        NamespacedKey namespacedKey = getKey(key);
-                        if (namespacedKey != null) {
-                            meta.getPersistentDataContainer().set(namespacedKey, PersistentDataType.BOOLEAN, true);
-                            itemStack.setItemMeta(meta);
-                        }
-                    }
-                }
+                meta.getPersistentDataContainer().set(getKey(key), PersistentDataType.BOOLEAN, true);
             }
         }
-        return itemStack;
     }
 
+    /**
+     * Reads through the item's data container view, so no meta copy is created.
+     */
     public static boolean isItemTag (ItemStack itemStack, String key) {
-        boolean check = false;
-        if (itemStack != null && itemStack.getType().isItem()) {
+        return key != null && hasKey(itemStack, getKey(key));
+    }
+
+    /**
+     * Checks whether the item has at least one of the tags, without copying the meta.
+     */
+    public static boolean hasAnyTag(ItemStack itemStack, Collection<String> keys) {
+        return keys != null && hasAnyKey(itemStack, resolve(keys));
+    }
+
+    /**
+     * Checks whether the item has all of the tags, without copying the meta.
+     */
+    public static boolean hasAllTags(ItemStack itemStack, Collection<String> keys) {
+        if (keys == null) {
+            return false;
+        }
+        List<NamespacedKey> resolved = resolve(keys);
+        return resolved.size() == keys.size() && hasAllKeys(itemStack, resolved);
+    }
+
+    public static ItemStack removeItemTag(ItemStack itemStack, String key) {
+        if (key != null) {
+            removeKeys(itemStack, List.of(getKey(key)));
+        }
+        return itemStack;
+    }
+
+    /**
+     * Removes several tags with a single meta read and write.
+     * If the item has none of the tags, the meta is not touched at all.
+     */
+    public static ItemStack removeItemTags(ItemStack itemStack, Collection<String> keys) {
+        return keys != null ? removeKeys(itemStack, resolve(keys)) : itemStack;
+    }
+
+    // --- Pre-resolved keys ---
+
+    public static ItemStack setItemTag(ItemStack itemStack, TagKey key) {
+        return setKeys(itemStack, List.of(key.getNamespacedKey()));
+    }
+
+    public static ItemStack setItemTags(ItemStack itemStack, TagKey... keys) {
+        return setKeys(itemStack, resolve(keys));
+    }
+
+    public static boolean isItemTag(ItemStack itemStack, TagKey key) {
+        return hasKey(itemStack, key.getNamespacedKey());
+    }
+
+    public static boolean hasAnyTag(ItemStack itemStack, TagKey... keys) {
+        return hasAnyKey(itemStack, resolve(keys));
+    }
+
+    public static boolean hasAllTags(ItemStack itemStack, TagKey... keys) {
+        return hasAllKeys(itemStack, resolve(keys));
+    }
+
+    public static ItemStack removeItemTag(ItemStack itemStack, TagKey key) {
+        return removeKeys(itemStack, List.of(key.getNamespacedKey()));
+    }
+
+    public static ItemStack removeItemTags(ItemStack itemStack, TagKey... keys) {
+        return removeKeys(itemStack, resolve(keys));
+    }
+
+    // --- Shared implementation ---
+
+    private static ItemStack setKeys(ItemStack itemStack, List<NamespacedKey> keys) {
+        if (!isTaggable(itemStack) || keys.isEmpty()) {
+            return itemStack;
+        }
+
+        PersistentDataContainerView view = itemStack.getPersistentDataContainer();
+        List<NamespacedKey> missing = new ArrayList<>(keys.size());
+        for (NamespacedKey namespacedKey : keys) {
+            if (!view.has(namespacedKey, PersistentDataType.BOOLEAN)) {
+                missing.add(namespacedKey);
+            }
+        }
+        if (missing.isEmpty()) {
+            return itemStack;
+        }
+
+        ItemMeta meta = itemStack.getItemMeta();
+        if (meta != null) {
+            PersistentDataContainer container = meta.getPersistentDataContainer();
+            for (NamespacedKey namespacedKey : missing) {
+                container.set(namespacedKey, PersistentDataType.BOOLEAN, true);
+            }
+            itemStack.setItemMeta(meta);
+        }
+        return itemStack;
+    }
+
+    private static ItemStack removeKeys(ItemStack itemStack, List<NamespacedKey> keys) {
+        if (!isTaggable(itemStack) || keys.isEmpty()) {
+            return itemStack;
+        }
+
+        List<NamespacedKey> present = presentTags(itemStack.getPersistentDataContainer(), keys);
+        if (present.isEmpty()) {
+            return itemStack;
+        }
+
+        ItemMeta meta = itemStack.getItemMeta();
+        if (meta != null) {
+            PersistentDataContainer container = meta.getPersistentDataContainer();
+            for (NamespacedKey namespacedKey : present) {
+                container.remove(namespacedKey);
+            }
+            itemStack.setItemMeta(meta);
+        }
+        return itemStack;
+    }
+
+    /**
+     * Selects the keys that are stored as tags. Only boolean entries count, so a typed value
+     * ({@link ItemKey}) that happens to share a tag's name is left untouched.
+     */
+    static List<NamespacedKey> presentTags(PersistentDataContainerView view, List<NamespacedKey> keys) {
+        List<NamespacedKey> present = new ArrayList<>(keys.size());
+        for (NamespacedKey namespacedKey : keys) {
+            if (view.has(namespacedKey, PersistentDataType.BOOLEAN)) {
+                present.add(namespacedKey);
+            }
+        }
+        return present;
+    }
+
+    private static boolean hasKey(ItemStack itemStack, NamespacedKey key) {
+        return isTaggable(itemStack) && itemStack.getPersistentDataContainer().has(key, PersistentDataType.BOOLEAN);
+    }
+
+    private static boolean hasAnyKey(ItemStack itemStack, List<NamespacedKey> keys) {
+        if (!isTaggable(itemStack)) {
+            return false;
+        }
+        PersistentDataContainerView view = itemStack.getPersistentDataContainer();
+        for (NamespacedKey namespacedKey : keys) {
+            if (view.has(namespacedKey, PersistentDataType.BOOLEAN)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasAllKeys(ItemStack itemStack, List<NamespacedKey> keys) {
+        if (!isTaggable(itemStack)) {
+            return false;
+        }
+        PersistentDataContainerView view = itemStack.getPersistentDataContainer();
+        for (NamespacedKey namespacedKey : keys) {
+            if (!view.has(namespacedKey, PersistentDataType.BOOLEAN)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<NamespacedKey> resolve(Collection<String> keys) {
+        List<NamespacedKey> resolved = new ArrayList<>(keys.size());
+        for (String key : keys) {
             if (key != null) {
-                ItemMeta meta = itemStack.getItemMeta();
-                if (meta != null) {
-                    NamespacedKey namespacedKey = getKey(key);
-                    if (namespacedKey != null) {
-                        boolean value = meta.getPersistentDataContainer().has(namespacedKey, PersistentDataType.BOOLEAN);
-                        if (value) {
-                            check = true;
-                        }
-                    }
-                }
+                resolved.add(getKey(key));
             }
         }
-        return check;
+        return resolved;
     }
 
-    public static ItemStack removeItemTag(ItemStack itemStack, String key) {
-        if (itemStack != null && itemStack.getType().isItem()) {
+    private static List<NamespacedKey> resolve(TagKey[] keys) {
+        List<NamespacedKey> resolved = new ArrayList<>(keys.length);
+        for (TagKey key : keys) {
             if (key != null) {
-                if (isItemTag(itemStack, key)) {
-                    ItemMeta meta = itemStack.getItemMeta();
-                    if (meta != null) {
-                        NamespacedKey namespacedKey = getKey(key);
-                        if (namespacedKey != null) {
-                            meta.getPersistentDataContainer().remove(namespacedKey);
-                            itemStack.setItemMeta(meta);
-                        }
-                    }
-                }
+                resolved.add(key.getNamespacedKey());
             }
         }
+        return resolved;
+    }
+
+    // --- Typed values ---
+
+    /**
+     * Reads a typed value through the item's data container view, so no meta copy is created.
+     *
+     * @return The value or {@code null} if the item has no value of this type.
+     */
+    public static <T> T getValue(ItemStack itemStack, ItemKey<T> key) {
+        if (!isTaggable(itemStack)) {
+            return null;
+        }
+        return itemStack.getPersistentDataContainer().get(key.getNamespacedKey(), key.getType());
+    }
+
+    /**
+     * Reads an {@code int} value or returns the default if the item has none.
+     */
+    public static int getInt(ItemStack itemStack, ItemKey<Integer> key, int defaultValue) {
+        Integer value = getValue(itemStack, key);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Reads a {@code long} value or returns the default if the item has none.
+     */
+    public static long getLong(ItemStack itemStack, ItemKey<Long> key, long defaultValue) {
+        Long value = getValue(itemStack, key);
+        return value != null ? value : defaultValue;
+    }
+
+    public static boolean hasValue(ItemStack itemStack, ItemKey<?> key) {
+        return isTaggable(itemStack) && itemStack.getPersistentDataContainer().has(key.getNamespacedKey(), key.getType());
+    }
 
+    /**
+     * Stores a typed value with a single meta read and write.
+     * A {@code null} value removes the key.
+     */
+    public static <T> ItemStack setValue(ItemStack itemStack, ItemKey<T> key, T value) {
+        if (!isTaggable(itemStack)) {
+            return itemStack;
+        }
+        ItemMeta meta = itemStack.getItemMeta();
+        if (meta != null) {
+            applyValue(meta, key, value);
+            itemStack.setItemMeta(meta);
+        }
+        return itemStack;
+    }
 
+    public static ItemStack removeValue(ItemStack itemStack, ItemKey<?> key) {
+        if (hasValue(itemStack, key)) {
+            ItemMeta meta = itemStack.getItemMeta();
+            if (meta != null) {
+                meta.getPersistentDataContainer().remove(key.getNamespacedKey());
+                itemStack.setItemMeta(meta);
+            }
+        }
         return itemStack;
     }
+
+    /**
+     * Writes a typed value into an existing meta. A {@code null} value removes the key.
+     */
+    static <T> void applyValue(ItemMeta meta, ItemKey<T> key, T value) {
+        if (value == null) {
+            meta.getPersistentDataContainer().remove(key.getNamespacedKey());
+        } else {
+            meta.getPersistentDataContainer().set(key.getNamespacedKey(), key.getType(), value);
+        }
+    }
+
+    private static boolean isTaggable(ItemStack itemStack) {
+        return itemStack != null && itemStack.getType().isItem() && !itemStack.getType().isAir();
+    }
 }
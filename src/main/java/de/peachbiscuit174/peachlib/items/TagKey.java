@@ -0,0 +1,90 @@
+package de.peachbiscuit174.peachlib.items;
+
+import de.peachbiscuit174.peachlib.PeachLib;
+import org.bukkit.NamespacedKey;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+
+/**
+ * A pre-resolved key for {@link ItemTag} markers.
+ * <p>
+ * The tag name is normalized and turned into a {@link NamespacedKey} once, when the handle is created.
+ * Passing a handle to {@link ItemTag} skips the string lookup entirely, so handles should be stored
+ * in constants for tags that are checked frequently (e.g. in event listeners).
+ * </p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>
+ * public static final TagKey SOULBOUND = TagKey.of("soulbound");
+ *
+ * if (ItemTag.isItemTag(item, SOULBOUND)) { ... }
+ * </pre>
+ *
+ * @author peachbiscuit174
+ * @since 1.0.0
+ */
+public final class TagKey {
+
+    private final String name;
+    private final NamespacedKey namespacedKey;
+
+    private TagKey(@NotNull String name, @NotNull NamespacedKey namespacedKey) {
+        this.name = name;
+        this.namespacedKey = namespacedKey;
+    }
+
+    /**
+     * Creates a handle in the PeachLib namespace. This is the same key the String based
+     * {@link ItemTag} methods use for the name.
+     *
+     * @param name The tag name (lowercased, spaces become underscores).
+     * @return A new TagKey.
+     */
+    public static @NotNull TagKey of(@NotNull String name) {
+        return new TagKey(name, new NamespacedKey(PeachLib.getPlugin(), normalize(name)));
+    }
+
+    /**
+     * Creates a handle for a custom key, e.g. in the namespace of another plugin.
+     *
+     * @param namespacedKey The key.
+     * @return A new TagKey.
+     */
+    public static @NotNull TagKey of(@NotNull NamespacedKey namespacedKey) {
+        return new TagKey(namespacedKey.getKey(), namespacedKey);
+    }
+
+    /**
+     * @return The name the handle was created with.
+     */
+    public @NotNull String getName() {
+        return name;
+    }
+
+    /**
+     * @return The resolved {@link NamespacedKey}.
+     */
+    public @NotNull NamespacedKey getNamespacedKey() {
+        return namespacedKey;
+    }
+
+    static @NotNull String normalize(@NotNull String name) {
+        return name.toLowerCase(Locale.ROOT).replace(" ", "_");
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof TagKey other && namespacedKey.equals(other.namespacedKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return namespacedKey.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "TagKey{" + namespacedKey + "}";
+    }
+}
@@ -0,0 +1,173 @@
+package de.peachbiscuit174.peachlib.other;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A thread-safe, size-bounded cache with least-recently-used eviction.
+ * <p>
+ * Keeps hit and miss counters so the effectiveness of a cache can be checked at runtime.
+ * Values should be immutable or copied by the caller, since they are shared between lookups.
+ * </p>
+ *
+ * @param <K> The key type.
+ * @param <V> The value type.
+ * @author peachbiscuit174
+ * @since 1.0.0
+ */
+public class BoundedCache<K, V> {
+
+    private final LinkedHashMap<K, V> entries;
+    private int maximumSize;
+    private long hits = 0;
+    private long misses = 0;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maximumSize The maximum number of entries (at least 1).
+     */
+    public BoundedCache(int maximumSize) {
+        this.maximumSize = Math.max(1, maximumSize);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > BoundedCache.this.maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached value for the key or computes and stores it.
+     * <p>
+     * The loader runs without holding the cache lock, so a slow load does not block other lookups.
+     * Concurrent misses for the same key may load the value more than once; the first stored value
+     * wins and is returned to all of them. A {@code null} result is returned but not stored.
+     * </p>
+     *
+     * @param key    The key.
+     * @param loader Computes the value on a miss.
+     * @return The cached or computed value.
+     */
+    public V get(@NotNull K key, @NotNull Function<? super K, ? extends V> loader) {
+        V value = getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+
+        value = loader.apply(key);
+        if (value == null) {
+            return null;
+        }
+        return putIfAbsent(key, value);
+    }
+
+    /**
+     * Returns the cached value without loading it. Counts as hit or miss.
+     *
+     * @param key The key.
+     * @return The value or {@code null} if not cached.
+     */
+    public synchronized @Nullable V getIfPresent(@NotNull K key) {
+        V value = entries.get(key);
+        if (value != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return value;
+    }
+
+    /**
+     * Stores a value, replacing any previous value for the key.
+     *
+     * @param key   The key.
+     * @param value The value.
+     */
+    public synchronized void put(@NotNull K key, @NotNull V value) {
+        entries.put(key, value);
+    }
+
+    /**
+     * Stores a value unless the key is already cached.
+     *
+     * @param key   The key.
+     * @param value The value.
+     * @return The value now cached for the key (the existing one, if present).
+     */
+    public synchronized @NotNull V putIfAbsent(@NotNull K key, @NotNull V value) {
+        V existing = entries.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        entries.put(key, value);
+        return value;
+    }
+
+    /**
+     * Removes a single entry.
+     *
+     * @param key The key.
+     */
+    public synchronized void invalidate(@NotNull K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Removes all entries and resets the statistics.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        hits = 0;
+        misses = 0;
+    }
+
+    /**
+     * Changes the maximum size. Excess entries are evicted on the next insert.
+     *
+     * @param maximumSize The maximum number of entries (at least 1).
+     */
+    public synchronized void setMaximumSize(int maximumSize) {
+        this.maximumSize = Math.max(1, maximumSize);
+    }
+
+    /**
+     * @return The maximum number of entries.
+     */
+    public synchronized int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @return The current number of entries.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return The number of lookups that found a cached value.
+     */
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    /**
+     * @return The number of lookups that did not find a cached value.
+     */
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * @return The ratio of hits to all lookups (0.0 - 1.0), or 0 if there were no lookups.
+     */
+    public synchronized double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
@@ -1,6 +1,6 @@
 package de.peachbiscuit174.peachlib.other;
 
-import net.kyori.adventure.text.minimessage.MiniMessage;
+import de.peachbiscuit174.peachlib.text.MessageTemplate;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -8,6 +8,8 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerJoinEvent;
 
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * All-in-one class that manages holiday greetings with dynamic placeholders.
@@ -19,7 +21,7 @@ public class HolidayGreetingListener implements Listener {
 
     private final CustomConfig2 configWrapper;
     private final FileConfiguration config;
-    private final MiniMessage miniMessage = MiniMessage.miniMessage();
+    private final Map<String, MessageTemplate> templates = new HashMap<>();
 
     /**
      * Constructor: Initializes the config and sets default holiday messages.
@@ -65,16 +67,33 @@ public class HolidayGreetingListener implements Listener {
         String holidayKey = getHolidayKey(today);
 
         if (holidayKey != null) {
-            String message = config.getString("messages." + holidayKey);
-            if (message != null && !message.isEmpty()) {
-                // Automatically replace %year% with the current year (e.g., 2025)
-                String processedMessage = message.replace("%year%", String.valueOf(today.getYear()));
-
-                player.sendMessage(miniMessage.deserialize(processedMessage));
+            MessageTemplate template = getTemplate(holidayKey);
+            if (template != null) {
+                // Automatically fill in %year% with the current year (e.g., 2025)
+                player.sendMessage(template.render(today.getYear()));
             }
         }
     }
 
+    /**
+     * Compiles the message of a holiday once. The %year% placeholder becomes a template slot.
+     * @param holidayKey The message key for the config.
+     * @return The compiled template or null if no message is configured.
+     */
+    private MessageTemplate getTemplate(String holidayKey) {
+        if (templates.containsKey(holidayKey)) {
+            return templates.get(holidayKey);
+        }
+
+        String message = config.getString("messages." + holidayKey);
+        MessageTemplate template = null;
+        if (message != null && !message.isEmpty()) {
+            template = MessageTemplate.compile(message.replace("%year%", "<year>"), "year");
+        }
+        templates.put(holidayKey, template);
+        return template;
+    }
+
     /**
      * Identifies the holiday based on month and day.
      * @param date The current date.
@@ -0,0 +1,352 @@
+package de.peachbiscuit174.peachlib.player;
+
+import de.peachbiscuit174.peachlib.PeachLib;
+import de.peachbiscuit174.peachlib.gui.GUIButton;
+import de.peachbiscuit174.peachlib.gui.InventoryGUI;
+import de.peachbiscuit174.peachlib.items.ItemBuilder;
+import de.peachbiscuit174.peachlib.items.ItemSerializer;
+import de.peachbiscuit174.peachlib.other.CustomConfig2;
+import de.peachbiscuit174.peachlib.scheduler.LibraryScheduler;
+import de.peachbiscuit174.peachlib.text.ComponentCache;
+import de.peachbiscuit174.peachlib.text.MessageTemplate;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Batched item delivery with a virtual mailbox for overflow.
+ * <p>
+ * Items queued for a player are collected until the next tick, identical stacks are merged,
+ * and the inventory is filled in one pass via {@link PlayerManaging#giveItems(java.util.Collection)}.
+ * Items that do not fit are not dropped into the world but stored in the player's mailbox, which can be opened as a GUI
+ * via {@link #openMailbox(Player)}. Mailboxes are saved to {@code mailboxes.yml} shortly after every change:
+ * the content is serialized on the main thread and written asynchronously through a temporary file,
+ * so a crash loses at most the last few seconds of changes.
+ * All methods must be called from the main thread.
+ * </p>
+ *
+ * @author peachbiscuit174
+ * @since 1.0.0
+ */
+public final class ItemDelivery {
+
+    private static final Map<UUID, List<ItemStack>> pendingItems = new HashMap<>();
+    private static final Set<UUID> scheduledFlushes = new HashSet<>();
+    private static final Map<UUID, List<ItemStack>> mailboxes = new HashMap<>();
+    private static String overflowMessage = "<yellow>Your inventory is full. <gray>The remaining items were stored in your mailbox.";
+
+    private static final int MAILBOX_SLOTS = 45;
+    private static final String MAILBOX_FILE = "mailboxes.yml";
+    // Rendered per open, so the count does not create a new entry in the shared ComponentCache
+    private static final MessageTemplate CLAIM_ALL_NAME = MessageTemplate.compile("<green>Claim all <gray>(<count>)", "count");
+    private static final long SAVE_DELAY_SECONDS = 5;
+
+    // Debounced saving: changes are collected and written once, writes never overtake newer ones
+    private static boolean saveScheduled = false;
+    private static final AtomicLong saveSequence = new AtomicLong();
+    private static final Object writeLock = new Object();
+    private static long writtenSequence = 0;
+
+    private ItemDelivery() {
+    }
+
+    /**
+     * Queues an item for delivery. The item is given at the end of the current tick
+     * together with all other queued items of the player.
+     *
+     * @param player    The receiving player.
+     * @param itemStack The item to deliver.
+     */
+    public static void queue(@NotNull Player player, @NotNull ItemStack itemStack) {
+        if (itemStack.getType().isAir() || itemStack.getAmount() <= 0) return;
+
+        UUID uuid = player.getUniqueId();
+        mergeInto(pendingItems.computeIfAbsent(uuid, k -> new ArrayList<>()), itemStack);
+
+        if (scheduledFlushes.add(uuid)) {
+            LibraryScheduler scheduler = PeachLib.getScheduler();
+            if (scheduler != null) {
+                scheduler.runSync(() -> flush(uuid));
+            } else {
+                flush(uuid);
+            }
+        }
+    }
+
+    /**
+     * Delivers all queued items of the player immediately.
+     * Offline players receive the items in their mailbox.
+     *
+     * @param uuid The UUID of the player.
+     */
+    public static void flush(@NotNull UUID uuid) {
+        scheduledFlushes.remove(uuid);
+        List<ItemStack> items = pendingItems.remove(uuid);
+        if (items == null || items.isEmpty()) return;
+
+        Player player = Bukkit.getPlayer(uuid);
+        if (player == null || !player.isOnline()) {
+            for (ItemStack item : items) {
+                addToMailbox(uuid, item);
+            }
+            return;
+        }
+
+        List<ItemStack> remaining = new PlayerManaging(player).giveItems(items);
+        if (!remaining.isEmpty()) {
+            for (ItemStack item : remaining) {
+                addToMailbox(uuid, item);
+            }
+            player.sendMessage(ComponentCache.parse(overflowMessage));
+        }
+    }
+
+    /**
+     * Returns a copy of the items stored in the player's mailbox.
+     *
+     * @param uuid The UUID of the player.
+     * @return The stored items.
+     */
+    public static @NotNull List<ItemStack> getMailboxItems(@NotNull UUID uuid) {
+        List<ItemStack> result = new ArrayList<>();
+        List<ItemStack> mailbox = mailboxes.get(uuid);
+        if (mailbox != null) {
+            for (ItemStack item : mailbox) {
+                result.add(item.clone());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Opens the mailbox of the player as a GUI.
+     * Clicking an item claims it, the bottom row contains a "claim all" button.
+     *
+     * @param player The player.
+     */
+    public static void openMailbox(@NotNull Player player) {
+        InventoryGUI gui = new InventoryGUI(6, "<dark_gray>Mailbox");
+        renderMailbox(gui, player.getUniqueId());
+        gui.open(player);
+    }
+
+    /**
+     * Sets the message sent when items are moved to the mailbox.
+     *
+     * @param messageMiniMessage The message (supports MiniMessage).
+     */
+    public static void setOverflowMessage(@NotNull String messageMiniMessage) {
+        overflowMessage = messageMiniMessage;
+    }
+
+    private static void renderMailbox(@NotNull InventoryGUI gui, @NotNull UUID uuid) {
+        List<ItemStack> mailbox = mailboxes.getOrDefault(uuid, List.of());
+
+        for (int slot = 0; slot < MAILBOX_SLOTS; slot++) {
+            if (slot < mailbox.size()) {
+                ItemStack stored = mailbox.get(slot);
+                gui.setButton(slot, new GUIButton(new ItemBuilder(stored), "mailbox_item", event -> {
+                    if (event.getWhoClicked() instanceof Player clicker) {
+                        claim(clicker, stored);
+                        renderMailbox(gui, uuid);
+                    }
+                }));
+            } else {
+                gui.removeButton(slot);
+            }
+        }
+
+        gui.setButton(49, new GUIButton(new ItemBuilder(Material.CHEST)
+                .setDisplayName(CLAIM_ALL_NAME.render(mailbox.size())), "mailbox_claim_all", event -> {
+            if (event.getWhoClicked() instanceof Player clicker) {
+                for (ItemStack stored : new ArrayList<>(mailboxes.getOrDefault(uuid, List.of()))) {
+                    claim(clicker, stored);
+                }
+                renderMailbox(gui, uuid);
+            }
+        }).setClickCooldown(250));
+    }
+
+    /**
+     * Moves a stored item into the player's inventory. What does not fit stays in the mailbox.
+     */
+    private static void claim(@NotNull Player player, @NotNull ItemStack stored) {
+        List<ItemStack> mailbox = mailboxes.get(player.getUniqueId());
+        if (mailbox == null || !mailbox.remove(stored)) return;
+        if (mailbox.isEmpty()) {
+            mailboxes.remove(player.getUniqueId());
+        }
+        scheduleSave();
+
+        Map<Integer, ItemStack> remaining = player.getInventory().addItem(stored);
+        for (ItemStack item : remaining.values()) {
+            addToMailbox(player.getUniqueId(), item);
+        }
+    }
+
+    /**
+     * Stores an item in the mailbox. Mailbox entries never exceed the max stack size,
+     * so each entry can be displayed and serialized as a regular stack.
+     */
+    private static void addToMailbox(@NotNull UUID uuid, @NotNull ItemStack itemStack) {
+        List<ItemStack> mailbox = mailboxes.computeIfAbsent(uuid, k -> new ArrayList<>());
+        int maxStackSize = Math.max(1, itemStack.getMaxStackSize());
+        int amount = itemStack.getAmount();
+
+        for (ItemStack existing : mailbox) {
+            if (amount <= 0) break;
+            if (existing.getAmount() < maxStackSize && existing.isSimilar(itemStack)) {
+                int added = Math.min(amount, maxStackSize - existing.getAmount());
+                existing.setAmount(existing.getAmount() + added);
+                amount -= added;
+            }
+        }
+
+        while (amount > 0) {
+            ItemStack stack = itemStack.clone();
+            stack.setAmount(Math.min(maxStackSize, amount));
+            amount -= stack.getAmount();
+            mailbox.add(stack);
+        }
+        scheduleSave();
+    }
+
+    /**
+     * Adds the item to the pending list, merging it into a similar entry if one exists.
+     * Entries may exceed the max stack size until they are split for delivery.
+     */
+    private static void mergeInto(@NotNull List<ItemStack> items, @NotNull ItemStack itemStack) {
+        for (ItemStack existing : items) {
+            if (existing.isSimilar(itemStack)) {
+                existing.setAmount(existing.getAmount() + itemStack.getAmount());
+                return;
+            }
+        }
+        items.add(itemStack.clone());
+    }
+
+    // --- Persistence ---
+
+    /**
+     * Loads the stored mailboxes. Called by PeachLib on startup.
+     */
+    public static void loadMailboxes() {
+        FileConfiguration config = new CustomConfig2(MAILBOX_FILE).getConfig();
+        mailboxes.clear();
+        for (String key : config.getKeys(false)) {
+            UUID uuid;
+            try {
+                uuid = UUID.fromString(key);
+            } catch (IllegalArgumentException e) {
+                PeachLib.getPlugin().getLogger().warning("Skipped mailbox with invalid UUID '" + key + "' in " + MAILBOX_FILE + ".");
+                continue;
+            }
+
+            List<ItemStack> mailbox = new ArrayList<>();
+            for (String base64 : config.getStringList(key)) {
+                ItemStack item = ItemSerializer.deserializeFromBase64(base64);
+                if (item != null) {
+                    mailbox.add(item);
+                }
+            }
+            if (!mailbox.isEmpty()) {
+                mailboxes.put(uuid, mailbox);
+            }
+        }
+    }
+
+    /**
+     * Delivers pending items into the mailboxes and saves them synchronously. Called by PeachLib on shutdown.
+     */
+    public static void saveMailboxes() {
+        for (UUID uuid : new ArrayList<>(pendingItems.keySet())) {
+            for (ItemStack item : PlayerManaging.splitToStacks(pendingItems.remove(uuid))) {
+                addToMailbox(uuid, item);
+            }
+        }
+        scheduledFlushes.clear();
+
+        saveScheduled = false;
+        writeMailboxes(saveSequence.incrementAndGet(), serializeMailboxes());
+    }
+
+    /**
+     * Schedules a save of all mailboxes. Multiple changes within the delay result in one write.
+     */
+    private static void scheduleSave() {
+        if (saveScheduled) return;
+
+        LibraryScheduler scheduler = PeachLib.getScheduler();
+        if (scheduler == null) return;
+        saveScheduled = true;
+        scheduler.runSyncDelayed(() -> {
+            if (!saveScheduled) return;
+            saveScheduled = false;
+
+            long sequence = saveSequence.incrementAndGet();
+            String content = serializeMailboxes();
+            scheduler.runAsync(() -> writeMailboxes(sequence, content));
+        }, SAVE_DELAY_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Serializes all mailboxes to YAML. Must be called from the main thread.
+     */
+    private static @NotNull String serializeMailboxes() {
+        YamlConfiguration config = new YamlConfiguration();
+        for (Map.Entry<UUID, List<ItemStack>> entry : mailboxes.entrySet()) {
+            List<String> serialized = new ArrayList<>();
+            for (ItemStack item : entry.getValue()) {
+                serialized.add(ItemSerializer.serializeToBase64(item));
+            }
+            config.set(entry.getKey().toString(), serialized);
+        }
+        return config.saveToString();
+    }
+
+    /**
+     * Writes the serialized mailboxes through a temporary file, so an interrupted write never
+     * leaves a truncated file behind. Older snapshots are skipped if a newer one was already written.
+     */
+    private static void writeMailboxes(long sequence, @NotNull String content) {
+        synchronized (writeLock) {
+            if (sequence <= writtenSequence) return;
+
+            Path target = new File(PeachLib.getPlugin().getDataFolder(), MAILBOX_FILE).toPath();
+            Path temp = target.resolveSibling(MAILBOX_FILE + ".tmp");
+            try {
+                Files.createDirectories(target.getParent());
+                Files.writeString(temp, content, StandardCharsets.UTF_8);
+                try {
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+                writtenSequence = sequence;
+            } catch (IOException e) {
+                PeachLib.getPlugin().getLogger().severe("Could not save mailboxes: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -1,14 +1,20 @@
 package de.peachbiscuit174.peachlib.player;
 
+import de.peachbiscuit174.peachlib.text.ComponentCache;
+import de.peachbiscuit174.peachlib.text.MessageTemplate;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 
 /**
  * A utility class for managing player-related actions,
@@ -37,6 +43,16 @@ public class PlayerManaging {
         player.sendMessage(parseComponent(message));
     }
 
+    /**
+     * Sends a precompiled message template to the player.
+     *
+     * @param template The {@link MessageTemplate} to render.
+     * @param values   The placeholder values, in the order declared by the template.
+     */
+    public void sendMessage(@NotNull MessageTemplate template, @Nullable Object... values) {
+        player.sendMessage(template.render(values));
+    }
+
     /**
      * Sets the display name of the player using MiniMessage formatting.
      * This updates the modern {@link Component} based display name.
@@ -98,6 +114,128 @@ public class PlayerManaging {
         }
     }
 
+    /**
+     * Gives a collection of items at once. Items that do not fit are dropped at the player's location.
+     * <p>
+     * Similar items are merged first. Placement is computed in one pass over a snapshot of the
+     * storage contents and applied with a single {@code setStorageContents} call. The overflow is
+     * dropped as one stack per item type (split only at the max stack size).
+     * </p>
+     * @param items The {@link ItemStack}s to give or drop.
+     * @return {@code true} if all items were successfully added to the inventory;
+     * {@code false} if any items had to be dropped on the ground.
+     */
+    public boolean giveOrDropItems(@NotNull Collection<ItemStack> items) {
+        List<ItemStack> overflow = giveItems(items);
+        if (overflow.isEmpty()) {
+            return true;
+        }
+
+        Location dropLocation = player.getLocation();
+        World world = player.getWorld();
+        for (ItemStack remaining : splitToStacks(overflow)) {
+            world.dropItem(dropLocation, remaining);
+        }
+        return false;
+    }
+
+    /**
+     * Adds a collection of items to the player's inventory without dropping anything.
+     * <p>
+     * Works like {@link #giveOrDropItems(Collection)}, but returns the items that did not fit.
+     * </p>
+     * @param items The {@link ItemStack}s to give.
+     * @return The merged items that did not fit (amounts may exceed the max stack size).
+     */
+    public @NotNull List<ItemStack> giveItems(@NotNull Collection<ItemStack> items) {
+        List<ItemStack> merged = mergeSimilar(items);
+        List<ItemStack> overflow = new ArrayList<>();
+        if (merged.isEmpty()) {
+            return overflow;
+        }
+
+        PlayerInventory inventory = player.getInventory();
+        ItemStack[] contents = inventory.getStorageContents();
+
+        for (ItemStack item : merged) {
+            int maxStackSize = Math.max(1, item.getMaxStackSize());
+            int remaining = item.getAmount();
+
+            // 1. Top up existing partial stacks
+            for (int slot = 0; slot < contents.length && remaining > 0; slot++) {
+                ItemStack content = contents[slot];
+                if (content != null && content.getType() == item.getType()
+                        && content.getAmount() < maxStackSize && content.isSimilar(item)) {
+                    int added = Math.min(remaining, maxStackSize - content.getAmount());
+                    content.setAmount(content.getAmount() + added);
+                    remaining -= added;
+                }
+            }
+
+            // 2. Fill empty slots
+            for (int slot = 0; slot < contents.length && remaining > 0; slot++) {
+                ItemStack content = contents[slot];
+                if (content == null || content.getType().isAir()) {
+                    ItemStack stack = item.clone();
+                    stack.setAmount(Math.min(remaining, maxStackSize));
+                    remaining -= stack.getAmount();
+                    contents[slot] = stack;
+                }
+            }
+
+            if (remaining > 0) {
+                ItemStack rest = item.clone();
+                rest.setAmount(remaining);
+                overflow.add(rest);
+            }
+        }
+
+        inventory.setStorageContents(contents);
+        return overflow;
+    }
+
+    /**
+     * Merges similar items into single entries. Amounts may exceed the max stack size.
+     */
+    private static @NotNull List<ItemStack> mergeSimilar(@NotNull Collection<ItemStack> items) {
+        List<ItemStack> merged = new ArrayList<>();
+        for (ItemStack item : items) {
+            if (item == null || item.getType().isAir() || item.getAmount() <= 0) continue;
+
+            boolean found = false;
+            for (ItemStack existing : merged) {
+                if (existing.getType() == item.getType() && existing.isSimilar(item)) {
+                    existing.setAmount(existing.getAmount() + item.getAmount());
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                merged.add(item.clone());
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Splits merged entries into stacks that respect the max stack size.
+     * Also used by {@link ItemDelivery}.
+     */
+    static @NotNull List<ItemStack> splitToStacks(@NotNull List<ItemStack> items) {
+        List<ItemStack> stacks = new ArrayList<>();
+        for (ItemStack item : items) {
+            int maxStackSize = Math.max(1, item.getMaxStackSize());
+            int amount = item.getAmount();
+            while (amount > 0) {
+                ItemStack stack = item.clone();
+                stack.setAmount(Math.min(maxStackSize, amount));
+                amount -= stack.getAmount();
+                stacks.add(stack);
+            }
+        }
+        return stacks;
+    }
+
     /**
      * Internal helper method to parse a MiniMessage string into an Adventure Component.
      *
@@ -105,6 +243,6 @@ public class PlayerManaging {
      * @return The parsed {@link Component}.
      */
     private static @NotNull Component parseComponent(@NotNull String input) {
-        return MiniMessage.miniMessage().deserialize(input);
+        return ComponentCache.parse(input);
     }
 }
\ No newline at end of file
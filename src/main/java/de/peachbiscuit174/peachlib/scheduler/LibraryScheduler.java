@@ -8,6 +8,7 @@ import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
 import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.*;
@@ -44,6 +45,7 @@ public class LibraryScheduler {
     private final ThreadPoolExecutor asyncExecutor;
     private final ScheduledExecutorService timerService;
     private final Queue<Runnable> syncQueue = new ConcurrentLinkedQueue<>();
+    private final List<Runnable> tickListeners = new CopyOnWriteArrayList<>();
     private final AtomicBoolean isShutdown = new AtomicBoolean(false);
     private final BukkitTask syncTask;
 
@@ -100,10 +102,12 @@ public class LibraryScheduler {
         this.timerService = Executors.newSingleThreadScheduledExecutor(r ->
                 new Thread(r, "PPL-Timer"));
 
-        // Central task to process the sync queue every tick (approx. every 50ms).
+        // Central task to run tick listeners and process the sync queue every tick (approx. every 50ms).
         // We pass the standard tick budget (25ms).
-        this.syncTask = Bukkit.getScheduler().runTaskTimer(libraryOwner, () ->
-                processSyncQueue(MAX_TICK_BUDGET_NANOS), 1L, 1L);
+        this.syncTask = Bukkit.getScheduler().runTaskTimer(libraryOwner, () -> {
+            processTickListeners();
+            processSyncQueue(MAX_TICK_BUDGET_NANOS);
+        }, 1L, 1L);
     }
 
     // --- EXECUTION METHODS ---
@@ -199,6 +203,34 @@ public class LibraryScheduler {
         return timerService.scheduleAtFixedRate(() -> runAsync(runnable), delay, period, unit);
     }
 
+    // --- TICK LISTENERS (SERVER TICKS) ---
+
+    /**
+     * Registers a listener that is executed on the main thread once per <b>server tick</b>.
+     * <p>
+     * Unlike {@link #runSyncRepeating(Runnable, long, long, TimeUnit)}, tick listeners are
+     * driven by the library's central Bukkit task. They never pile up when the server lags,
+     * which makes them suitable for shared loops (e.g. animated GUIs) that should follow the TPS.
+     * Registering the same instance twice has no effect.
+     * </p>
+     *
+     * @param listener The logic to run every tick.
+     */
+    public void addTickListener(@NotNull Runnable listener) {
+        if (!isShutdown.get() && !tickListeners.contains(listener)) {
+            tickListeners.add(listener);
+        }
+    }
+
+    /**
+     * Removes a previously registered tick listener.
+     *
+     * @param listener The listener to remove.
+     */
+    public void removeTickListener(@NotNull Runnable listener) {
+        tickListeners.remove(listener);
+    }
+
     // --- UTILITIES ---
 
     /**
@@ -220,6 +252,22 @@ public class LibraryScheduler {
         });
     }
 
+    /**
+     * Runs all registered tick listeners. Errors are logged and do not affect other listeners.
+     */
+    private void processTickListeners() {
+        if (tickListeners.isEmpty()) return;
+
+        for (Runnable listener : tickListeners) {
+            try {
+                listener.run();
+            } catch (Exception e) {
+                libraryOwner.getLogger().severe("Error in PPL Tick Listener: " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+    }
+
     /**
      * Processes pending tasks in the sync queue.
      * <p>
@@ -298,6 +346,8 @@ public class LibraryScheduler {
             Thread.currentThread().interrupt();
         }
 
+        tickListeners.clear();
+
         // Process remaining sync tasks immediately.
         // We allow a maximum of 10 seconds for this cleanup to avoid hanging the server shutdown.
         processSyncQueue(MAX_SHUTDOWN_SYNC_TIME_NANOS);
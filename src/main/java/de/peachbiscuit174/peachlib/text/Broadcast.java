@@ -0,0 +1,220 @@
+package de.peachbiscuit174.peachlib.text;
+
+import de.peachbiscuit174.peachlib.PeachLib;
+import de.peachbiscuit174.peachlib.scheduler.LibraryScheduler;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A message sent to many players, rendered once per group of recipients instead of once per player.
+ * <p>
+ * Recipients are grouped by their permission variant and, for localized messages, by their locale.
+ * Each group's component is rendered a single time and sent to every member of the group.
+ * Very large audiences can be spread across several ticks with {@link #playersPerTick(int)}.
+ * </p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>
+ * Broadcast.of("&lt;gray&gt;The server restarts in 5 minutes.")
+ *         .variant("server.admin", "&lt;red&gt;The server restarts in 5 minutes. &lt;click:run_command:/restart cancel&gt;[Cancel]")
+ *         .send();
+ * </pre>
+ *
+ * @author peachbiscuit174
+ * @since 1.0.0
+ */
+public final class Broadcast {
+
+    private final Variant defaultVariant;
+    private final List<Variant> variants = new ArrayList<>();
+    private Collection<? extends Player> recipients;
+    private int playersPerTick = 0;
+
+    private Broadcast(@NotNull Variant defaultVariant) {
+        this.defaultVariant = defaultVariant;
+    }
+
+    /**
+     * Creates a broadcast of a MiniMessage string. The string is parsed once.
+     *
+     * @param miniMessage The message (supports MiniMessage).
+     * @return A new Broadcast.
+     */
+    public static @NotNull Broadcast of(@NotNull String miniMessage) {
+        return new Broadcast(Variant.fixed(null, ComponentCache.parse(miniMessage)));
+    }
+
+    /**
+     * Creates a broadcast of a fixed component.
+     *
+     * @param component The message.
+     * @return A new Broadcast.
+     */
+    public static @NotNull Broadcast of(@NotNull Component component) {
+        return new Broadcast(Variant.fixed(null, component));
+    }
+
+    /**
+     * Creates a localized broadcast. The renderer is called once per locale among the recipients.
+     *
+     * @param renderer Renders the message for a locale.
+     * @return A new Broadcast.
+     */
+    public static @NotNull Broadcast localized(@NotNull Function<Locale, Component> renderer) {
+        return new Broadcast(new Variant(null, renderer, true));
+    }
+
+    /**
+     * Adds a message variant for players with a permission.
+     * Variants are checked in the order they were added; the first matching one is used.
+     *
+     * @param permission  The permission required for this variant.
+     * @param miniMessage The message (supports MiniMessage).
+     * @return The current instance for chaining.
+     */
+    public @NotNull Broadcast variant(@NotNull String permission, @NotNull String miniMessage) {
+        variants.add(Variant.fixed(permission, ComponentCache.parse(miniMessage)));
+        return this;
+    }
+
+    /**
+     * Adds a localized message variant for players with a permission.
+     * Variants are checked in the order they were added; the first matching one is used.
+     *
+     * @param permission The permission required for this variant.
+     * @param renderer   Renders the message for a locale.
+     * @return The current instance for chaining.
+     */
+    public @NotNull Broadcast variant(@NotNull String permission, @NotNull Function<Locale, Component> renderer) {
+        variants.add(new Variant(permission, renderer, true));
+        return this;
+    }
+
+    /**
+     * Limits the broadcast to the given players. By default all online players receive it.
+     *
+     * @param recipients The receiving players.
+     * @return The current instance for chaining.
+     */
+    public @NotNull Broadcast recipients(@NotNull Collection<? extends Player> recipients) {
+        this.recipients = recipients;
+        return this;
+    }
+
+    /**
+     * Spreads the sending across ticks. Rendering still happens once, when {@link #send()} is called.
+     *
+     * @param playersPerTick The number of players to send to per tick (0 = all at once).
+     * @return The current instance for chaining.
+     */
+    public @NotNull Broadcast playersPerTick(int playersPerTick) {
+        this.playersPerTick = Math.max(0, playersPerTick);
+        return this;
+    }
+
+    /**
+     * Groups the recipients, renders each group's message once and sends it.
+     * Must be called from the main thread.
+     *
+     * @return The number of recipients.
+     */
+    public int send() {
+        Collection<? extends Player> targets = recipients != null ? recipients : Bukkit.getOnlinePlayers();
+        Map<GroupKey, Component> rendered = new HashMap<>();
+        List<Player> players = new ArrayList<>(targets.size());
+        List<Component> messages = new ArrayList<>(targets.size());
+
+        for (Player player : targets) {
+            Variant variant = resolveVariant(player);
+            Locale locale = variant.localized() ? player.locale() : null;
+            Component message = rendered.computeIfAbsent(new GroupKey(variant, locale),
+                    key -> key.variant().renderer().apply(key.locale()));
+
+            players.add(player);
+            messages.add(message);
+        }
+
+        LibraryScheduler scheduler = PeachLib.getScheduler();
+        if (playersPerTick == 0 || players.size() <= playersPerTick || scheduler == null) {
+            for (int i = 0; i < players.size(); i++) {
+                players.get(i).sendMessage(messages.get(i));
+            }
+        } else {
+            new BatchedSend(scheduler, players, messages, playersPerTick).start();
+        }
+        return players.size();
+    }
+
+    /**
+     * @return The number of permission variants (without the default message).
+     */
+    public int getVariantCount() {
+        return variants.size();
+    }
+
+    private @NotNull Variant resolveVariant(@NotNull Player player) {
+        for (Variant variant : variants) {
+            if (player.hasPermission(variant.permission())) {
+                return variant;
+            }
+        }
+        return defaultVariant;
+    }
+
+    private record Variant(@Nullable String permission, Function<Locale, Component> renderer, boolean localized) {
+        private static @NotNull Variant fixed(@Nullable String permission, @NotNull Component component) {
+            return new Variant(permission, locale -> component, false);
+        }
+    }
+
+    private record GroupKey(Variant variant, @Nullable Locale locale) {
+    }
+
+    /**
+     * Sends a fixed number of prepared messages per tick until all are delivered.
+     */
+    private static final class BatchedSend implements Runnable {
+        private final LibraryScheduler scheduler;
+        private final List<Player> players;
+        private final List<Component> messages;
+        private final int perTick;
+        private int next = 0;
+
+        private BatchedSend(@NotNull LibraryScheduler scheduler, @NotNull List<Player> players,
+                            @NotNull List<Component> messages, int perTick) {
+            this.scheduler = scheduler;
+            this.players = players;
+            this.messages = messages;
+            this.perTick = perTick;
+        }
+
+        private void start() {
+            scheduler.addTickListener(this);
+        }
+
+        @Override
+        public void run() {
+            int end = Math.min(players.size(), next + perTick);
+            for (; next < end; next++) {
+                Player player = players.get(next);
+                if (player.isOnline()) {
+                    player.sendMessage(messages.get(next));
+                }
+            }
+            if (next >= players.size()) {
+                scheduler.removeTickListener(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package de.peachbiscuit174.peachlib.text;
+
+import de.peachbiscuit174.peachlib.other.BoundedCache;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Central cache for parsed MiniMessage strings.
+ * <p>
+ * Item names, lore lines, GUI titles and messages are usually constant strings that are parsed
+ * again and again. Components are immutable, so a parsed result can be shared by all callers.
+ * The cache is bounded (least-recently-used eviction) and meant for template strings without
+ * runtime values; strings containing player names or numbers should use a {@link MessageTemplate}
+ * instead, otherwise they only push the constant strings out of the cache.
+ * </p>
+ *
+ * @author peachbiscuit174
+ * @since 1.0.0
+ */
+public final class ComponentCache {
+
+    private static final MiniMessage MM = MiniMessage.miniMessage();
+    private static final BoundedCache<String, Component> cache = new BoundedCache<>(2048);
+
+    private ComponentCache() {
+    }
+
+    /**
+     * Parses a MiniMessage string, or returns the cached result of an earlier parse.
+     *
+     * @param miniMessage The MiniMessage string.
+     * @return The parsed {@link Component}.
+     */
+    public static @NotNull Component parse(@NotNull String miniMessage) {
+        if (miniMessage.isEmpty()) {
+            return Component.empty();
+        }
+        return cache.get(miniMessage, MM::deserialize);
+    }
+
+    /**
+     * Changes the maximum number of cached strings (default 2048).
+     *
+     * @param maximumSize The maximum number of entries.
+     */
+    public static void setMaximumSize(int maximumSize) {
+        cache.setMaximumSize(maximumSize);
+    }
+
+    /**
+     * Removes all cached components and resets the statistics.
+     */
+    public static void clear() {
+        cache.clear();
+    }
+
+    /**
+     * @return The number of cached strings.
+     */
+    public static int size() {
+        return cache.size();
+    }
+
+    /**
+     * @return The number of parses that were answered from the cache.
+     */
+    public static long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    /**
+     * @return The number of parses that had to run MiniMessage.
+     */
+    public static long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    /**
+     * @return The ratio of cached parses to all parses (0.0 - 1.0).
+     */
+    public static double getHitRate() {
+        return cache.getHitRate();
+    }
+}
@@ -0,0 +1,174 @@
+package de.peachbiscuit174.peachlib.text;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A MiniMessage string that is parsed once and rendered many times with different values.
+ * <p>
+ * Placeholders are written as tags (e.g. {@code <player>}) and declared when compiling.
+ * The string is parsed a single time into a component tree with slots for the placeholders.
+ * Rendering only rebuilds the parts of the tree that lead to a slot; everything else is shared,
+ * so there is no string concatenation and no re-parsing per recipient.
+ * </p>
+ * <p>
+ * Placeholders are supported in the text itself, not inside hover or click events.
+ * Templates are immutable and can be shared between threads.
+ * </p>
+ *
+ * <p><b>Example Usage:</b></p>
+ * <pre>
+ * MessageTemplate welcome = MessageTemplate.compile("&lt;green&gt;Welcome &lt;player&gt;, you have &lt;coins&gt; coins!", "player", "coins");
+ * player.sendMessage(welcome.render(player.displayName(), 250));
+ * </pre>
+ *
+ * @author peachbiscuit174
+ * @since 1.0.0
+ */
+public final class MessageTemplate {
+
+    // Compaction would merge the slot markers into the surrounding text, so it is disabled while compiling
+    private static final MiniMessage COMPILER = MiniMessage.builder().postProcessor(component -> component).build();
+    private static final String MARKER = "peachlib_slot:";
+
+    private final String source;
+    private final List<String> placeholders;
+    private final Node root;
+
+    private MessageTemplate(@NotNull String source, @NotNull List<String> placeholders, @NotNull Node root) {
+        this.source = source;
+        this.placeholders = placeholders;
+        this.root = root;
+    }
+
+    /**
+     * Parses a MiniMessage string into a template.
+     *
+     * @param miniMessage  The MiniMessage string.
+     * @param placeholders The names of the placeholder tags, in the order their values are passed to {@link #render(Object...)}.
+     * @return The compiled template.
+     * @throws IllegalArgumentException If a placeholder name is not a valid tag name.
+     */
+    public static @NotNull MessageTemplate compile(@NotNull String miniMessage, @NotNull String... placeholders) {
+        TagResolver.Builder resolvers = TagResolver.builder();
+        for (int i = 0; i < placeholders.length; i++) {
+            Component marker = Component.text(MARKER + i);
+            resolvers.resolver(TagResolver.resolver(placeholders[i], Tag.selfClosingInserting(marker)));
+        }
+
+        Component parsed = COMPILER.deserialize(miniMessage, resolvers.build());
+        return new MessageTemplate(miniMessage, List.of(placeholders), compileNode(parsed));
+    }
+
+    /**
+     * Renders the template with the given placeholder values.
+     * <p>
+     * {@link ComponentLike} values are inserted as they are, {@code null} as empty text
+     * and all other values as plain text via {@link String#valueOf(Object)}.
+     * Missing values are treated as {@code null}.
+     * </p>
+     *
+     * @param values The values, in the order of the placeholders passed to {@link #compile(String, String...)}.
+     * @return The rendered {@link Component}.
+     */
+    public @NotNull Component render(@Nullable Object... values) {
+        Component[] components = new Component[placeholders.size()];
+        for (int i = 0; i < components.length; i++) {
+            Object value = values != null && i < values.length ? values[i] : null;
+            if (value instanceof ComponentLike componentLike) {
+                components[i] = componentLike.asComponent();
+            } else if (value != null) {
+                components[i] = Component.text(String.valueOf(value));
+            } else {
+                components[i] = Component.empty();
+            }
+        }
+        return root.render(components);
+    }
+
+    /**
+     * @return The names of the placeholders in value order.
+     */
+    public @NotNull List<String> getPlaceholders() {
+        return placeholders;
+    }
+
+    /**
+     * @return The MiniMessage string this template was compiled from.
+     */
+    public @NotNull String getSource() {
+        return source;
+    }
+
+    /**
+     * Converts a parsed component into a node tree. Subtrees without slots become static nodes.
+     */
+    private static @NotNull Node compileNode(@NotNull Component component) {
+        int slot = slotIndex(component);
+        if (slot >= 0) {
+            return new SlotNode(slot);
+        }
+
+        List<Component> children = component.children();
+        Node[] childNodes = new Node[children.size()];
+        boolean hasSlot = false;
+        for (int i = 0; i < childNodes.length; i++) {
+            childNodes[i] = compileNode(children.get(i));
+            hasSlot |= !(childNodes[i] instanceof StaticNode);
+        }
+
+        if (!hasSlot) {
+            return new StaticNode(component);
+        }
+        return new BranchNode(component, childNodes);
+    }
+
+    private static int slotIndex(@NotNull Component component) {
+        if (component instanceof TextComponent text && text.content().startsWith(MARKER)) {
+            try {
+                return Integer.parseInt(text.content().substring(MARKER.length()));
+            } catch (NumberFormatException ignored) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private sealed interface Node permits StaticNode, SlotNode, BranchNode {
+        @NotNull Component render(@NotNull Component[] values);
+    }
+
+    private record StaticNode(Component component) implements Node {
+        @Override
+        public @NotNull Component render(@NotNull Component[] values) {
+            return component;
+        }
+    }
+
+    private record SlotNode(int index) implements Node {
+        @Override
+        public @NotNull Component render(@NotNull Component[] values) {
+            return values[index];
+        }
+    }
+
+    private record BranchNode(Component component, Node[] children) implements Node {
+        @Override
+        public @NotNull Component render(@NotNull Component[] values) {
+            List<Component> rendered = new ArrayList<>(children.length);
+            for (Node child : children) {
+                rendered.add(child.render(values));
+            }
+            return component.children(rendered);
+        }
+    }
+}
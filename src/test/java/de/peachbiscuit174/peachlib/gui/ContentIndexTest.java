@@ -0,0 +1,126 @@
+package de.peachbiscuit174.peachlib.gui;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContentIndexTest {
+
+    /**
+     * The index only reads action IDs and metadata, so the buttons need no item.
+     */
+    static GUIButton button(String actionId, String search, Object price) {
+        return new GUIButton(null, actionId, null)
+                .setMetadata("search", search)
+                .setMetadata("price", price);
+    }
+
+    private static ContentIndex index(GUIButton... buttons) {
+        return new ContentIndex(List.of(buttons), "search");
+    }
+
+    @Test
+    void searchMatchesWordPrefixesOfAllTokens() {
+        ContentIndex index = index(
+                button("a", "Diamond Sword", 10),
+                button("b", "Diamond Pickaxe", 20),
+                button("c", "Iron Sword", 5));
+
+        assertEquals(bits(0, 1), index.search(ContentIndex.tokenize("dia")));
+        assertEquals(bits(0, 2), index.search(ContentIndex.tokenize("SWO")));
+        assertEquals(bits(0), index.search(ContentIndex.tokenize("  sword   diam ")));
+        assertEquals(bits(), index.search(ContentIndex.tokenize("gold")));
+    }
+
+    @Test
+    void searchFallsBackToActionId() {
+        ContentIndex index = index(button("warp_spawn", null, null));
+
+        assertEquals(bits(0), index.search(ContentIndex.tokenize("warp")));
+    }
+
+    @Test
+    void matchesAgreesWithSearch() {
+        ContentIndex index = index(button("a", "Red Wool", 1), button("b", "Red Dye", 2));
+        String[] tokens = ContentIndex.tokenize("red w");
+
+        assertTrue(index.matches(0, tokens));
+        assertEquals(bits(0), index.search(tokens));
+    }
+
+    @Test
+    void sortPlacesMissingValuesLastAndKeepsTies() {
+        ContentIndex index = index(
+                button("a", "a", 30),
+                button("b", "b", null),
+                button("c", "c", 10),
+                button("d", "d", 30));
+
+        assertArrayEquals(new int[]{2, 0, 3, 1}, index.sorted("price", true));
+        assertArrayEquals(new int[]{0, 3, 2, 1}, index.sorted("price", false));
+    }
+
+    @Test
+    void sortRanksMixedTypes() {
+        ContentIndex index = index(
+                button("a", "a", "9"),
+                button("b", "b", 10),
+                button("c", "c", 2L),
+                button("d", "d", "10"));
+
+        // Numbers by value, then strings in text order
+        assertArrayEquals(new int[]{2, 1, 3, 0}, index.sorted("price", true));
+    }
+
+    @Test
+    void comparisonIsTransitiveForMixedTypes() {
+        Object[] values = {10, "9", 2L, 3.5, "abc", true, false, 'x', new Object(), -1};
+        for (Object a : values) {
+            assertEquals(0, ContentIndex.compareValues(a, a));
+            for (Object b : values) {
+                assertEquals(Integer.signum(ContentIndex.compareValues(a, b)), -Integer.signum(ContentIndex.compareValues(b, a)));
+                for (Object c : values) {
+                    if (ContentIndex.compareValues(a, b) < 0 && ContentIndex.compareValues(b, c) < 0) {
+                        assertTrue(ContentIndex.compareValues(a, c) < 0, a + " < " + b + " < " + c);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void sortingManyMixedValuesDoesNotViolateTheContract() {
+        Random random = new Random(174);
+        List<GUIButton> buttons = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            Object price = switch (random.nextInt(4)) {
+                case 0 -> random.nextInt(100);
+                case 1 -> String.valueOf(random.nextInt(100));
+                case 2 -> (long) random.nextInt(100);
+                default -> random.nextBoolean();
+            };
+            buttons.add(button("b" + i, null, price));
+        }
+        ContentIndex index = new ContentIndex(buttons, "search");
+
+        assertDoesNotThrow(() -> index.sorted("price", true));
+        assertEquals(2000, Arrays.stream(index.sorted("price", true)).distinct().count());
+    }
+
+    private static BitSet bits(int... positions) {
+        BitSet bits = new BitSet();
+        for (int position : positions) {
+            bits.set(position);
+        }
+        return bits;
+    }
+}
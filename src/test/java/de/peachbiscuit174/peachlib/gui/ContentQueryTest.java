@@ -0,0 +1,71 @@
+package de.peachbiscuit174.peachlib.gui;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static de.peachbiscuit174.peachlib.gui.ContentIndexTest.button;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ContentQueryTest {
+
+    private final ContentIndex index = new ContentIndex(List.of(
+            button("a", "Diamond Sword", 50),
+            button("b", "Diamond Pickaxe", 20),
+            button("c", "Iron Sword", 5),
+            button("d", "Diamond Shovel", 10)), "search");
+
+    @Test
+    void withoutSettingsAllPositionsAreShown() {
+        assertArrayEquals(new int[]{0, 1, 2, 3}, new ContentQuery().resolve(index));
+    }
+
+    @Test
+    void searchFilterAndSortAreCombined() {
+        ContentQuery query = new ContentQuery();
+        query.setSearch("diamond");
+        query.setSort("price", true);
+        query.setFilter(button -> !button.getActionId().equals("b"));
+
+        assertArrayEquals(new int[]{3, 0}, query.resolve(index));
+    }
+
+    @Test
+    void refinedSearchMatchesFreshSearch() {
+        ContentQuery query = new ContentQuery();
+        query.setSearch("dia");
+        assertArrayEquals(new int[]{0, 1, 3}, query.resolve(index));
+
+        query.setSearch("dia s");
+        assertArrayEquals(new int[]{0, 3}, query.resolve(index));
+
+        query.setSearch("dia sw");
+        assertArrayEquals(new int[]{0}, query.resolve(index));
+
+        // Widening the search must not be limited to the previous matches
+        query.setSearch("s");
+        assertArrayEquals(new int[]{0, 2, 3}, query.resolve(index));
+    }
+
+    @Test
+    void resultIsCachedUntilSettingsOrIndexChange() {
+        ContentQuery query = new ContentQuery();
+        query.setSort("price", false);
+        int[] first = query.resolve(index);
+
+        assertSame(first, query.resolve(index));
+        assertArrayEquals(new int[]{0, 1, 3, 2}, first);
+
+        ContentIndex changed = new ContentIndex(List.of(button("x", "x", 1)), "search");
+        assertArrayEquals(new int[]{0}, query.resolve(changed));
+    }
+
+    @Test
+    void copyKeepsSettings() {
+        ContentQuery template = new ContentQuery();
+        template.setSearch("sword");
+
+        assertArrayEquals(new int[]{0, 2}, new ContentQuery(template).resolve(index));
+    }
+}
@@ -0,0 +1,47 @@
+package de.peachbiscuit174.peachlib.items;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ItemBulkLoaderTest {
+
+    @Test
+    void readsDataVersionAfterNestedTags() {
+        assertEquals(4671, ItemBulkLoader.readDataVersion(TestNbt.item(4671)));
+    }
+
+    @Test
+    void readsDataVersionFromBothFormats() {
+        byte[] paperBytes = TestNbt.gzip(TestNbt.item(3955));
+
+        assertEquals(3955, ItemBulkLoader.getDataVersion(paperBytes));
+        assertEquals(3955, ItemBulkLoader.getDataVersion(ItemCompression.compress(paperBytes)));
+    }
+
+    @Test
+    void missingDataVersionReturnsMinusOne() {
+        byte[] emptyCompound = {10, 0, 0, 0};
+
+        assertEquals(-1, ItemBulkLoader.readDataVersion(emptyCompound));
+    }
+
+    @Test
+    void malformedDataReturnsMinusOne() {
+        byte[] nbt = TestNbt.item(4671);
+
+        assertEquals(-1, ItemBulkLoader.readDataVersion(new byte[0]));
+        assertEquals(-1, ItemBulkLoader.readDataVersion(Arrays.copyOf(nbt, nbt.length / 2)));
+        assertEquals(-1, ItemBulkLoader.readDataVersion(new byte[]{8, 0, 0}));
+        assertEquals(-1, ItemBulkLoader.getDataVersion(new byte[]{1, 2, 3}));
+    }
+
+    @Test
+    void unknownTagTypeReturnsMinusOne() {
+        byte[] nbt = {10, 0, 0, 99, 0, 1, 'x', 0};
+
+        assertEquals(-1, ItemBulkLoader.readDataVersion(nbt));
+    }
+}
@@ -0,0 +1,58 @@
+package de.peachbiscuit174.peachlib.items;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ItemCompressionTest {
+
+    private final byte[] nbt = TestNbt.item(4671);
+    private final byte[] paperBytes = TestNbt.gzip(nbt);
+
+    @Test
+    void roundTripRestoresTheNbt() {
+        byte[] compressed = ItemCompression.compress(paperBytes);
+
+        assertTrue(ItemCompression.isCompressed(compressed));
+        assertFalse(ItemCompression.isCompressed(paperBytes));
+        assertArrayEquals(nbt, ItemCompression.toRawNbt(ItemCompression.decompress(compressed)));
+    }
+
+    @Test
+    void dictionaryMakesItemsSmallerThanGzip() {
+        assertTrue(ItemCompression.compress(paperBytes).length < paperBytes.length);
+    }
+
+    @Test
+    void rawNbtIsReadFromBothFormats() {
+        assertArrayEquals(nbt, ItemCompression.toRawNbt(paperBytes));
+        assertArrayEquals(nbt, ItemCompression.toRawNbt(ItemCompression.compress(paperBytes)));
+    }
+
+    @Test
+    void truncatedDataIsRejected() {
+        byte[] compressed = ItemCompression.compress(paperBytes);
+        byte[] truncated = Arrays.copyOf(compressed, compressed.length / 2);
+
+        assertThrows(IllegalArgumentException.class, () -> ItemCompression.decompress(truncated));
+    }
+
+    @Test
+    void unknownVersionIsRejected() {
+        byte[] compressed = ItemCompression.compress(paperBytes);
+        compressed[2] = 99;
+
+        assertThrows(IllegalArgumentException.class, () -> ItemCompression.decompress(compressed));
+    }
+
+    @Test
+    void nonGzipInputIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> ItemCompression.compress(nbt));
+        assertThrows(IllegalArgumentException.class, () -> ItemCompression.toRawNbt(new byte[]{1, 2, 3}));
+    }
+}
@@ -0,0 +1,41 @@
+package de.peachbiscuit174.peachlib.items;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ItemRefTest {
+
+    private static final String HASH = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    @Test
+    void parsesHashWithoutAmount() {
+        ItemRef ref = ItemRef.parse(HASH);
+
+        assertEquals(HASH, ref.hash());
+        assertEquals(1, ref.amount());
+        assertEquals(HASH, ref.toString());
+    }
+
+    @Test
+    void parsesHashWithAmount() {
+        ItemRef ref = ItemRef.parse(HASH + "x32");
+
+        assertEquals(32, ref.amount());
+        assertEquals(ref, ItemRef.parse(ref.toString()));
+        assertEquals(HASH + "x5", ref.withAmount(5).toString());
+    }
+
+    @Test
+    void rejectsMalformedReferences() {
+        assertThrows(IllegalArgumentException.class, () -> ItemRef.parse(""));
+        assertThrows(IllegalArgumentException.class, () -> ItemRef.parse(HASH.substring(1)));
+        assertThrows(IllegalArgumentException.class, () -> ItemRef.parse(HASH.toUpperCase()));
+        assertThrows(IllegalArgumentException.class, () -> ItemRef.parse("../" + HASH.substring(3)));
+        assertThrows(IllegalArgumentException.class, () -> ItemRef.parse(HASH + "x"));
+        assertThrows(IllegalArgumentException.class, () -> ItemRef.parse(HASH + "xabc"));
+        assertThrows(IllegalArgumentException.class, () -> ItemRef.parse(HASH + "x0"));
+        assertThrows(IllegalArgumentException.class, () -> ItemRef.parse(HASH + "x-3"));
+    }
+}
@@ -0,0 +1,133 @@
+package de.peachbiscuit174.peachlib.items;
+
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ItemStreamFormatTest {
+
+    @Test
+    void varIntRoundTrip() throws IOException {
+        int[] values = {0, 1, 127, 128, 300, 16_383, 16_384, Integer.MAX_VALUE, -1, Integer.MIN_VALUE};
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (int value : values) {
+            ItemStreamWriter.writeVarInt(out, value);
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        for (int value : values) {
+            assertEquals(value, ItemStreamReader.readVarInt(in));
+        }
+    }
+
+    @Test
+    void varIntUsesOneByteForSmallValues() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ItemStreamWriter.writeVarInt(new DataOutputStream(bytes), 127);
+
+        assertEquals(1, bytes.size());
+    }
+
+    @Test
+    void overlongVarIntIsRejected() {
+        byte[] bytes = {(byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x01};
+
+        assertThrows(IOException.class, () -> ItemStreamReader.readVarInt(new DataInputStream(new ByteArrayInputStream(bytes))));
+    }
+
+    @Test
+    void emptySlotsKeepTheSize() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ItemStreamWriter writer = new ItemStreamWriter(bytes, 27)) {
+            writer.writeAll(new ItemStack[27]);
+        }
+
+        try (ItemStreamReader reader = new ItemStreamReader(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertEquals(27, reader.getSize());
+            ItemStack[] contents = reader.readAll();
+            assertEquals(27, contents.length);
+            assertEquals(Arrays.asList(new ItemStack[27]), Arrays.asList(contents));
+        }
+    }
+
+    @Test
+    void wrongHeaderIsRejected() {
+        assertThrows(IOException.class, () -> read(stream(0x12345678, ItemStreamWriter.VERSION, 0)));
+        assertThrows(IOException.class, () -> read(stream(ItemStreamWriter.MAGIC, 99, 0)));
+    }
+
+    @Test
+    void hugeOrNegativeSizeIsRejected() {
+        assertThrows(IOException.class, () -> read(stream(ItemStreamWriter.MAGIC, ItemStreamWriter.VERSION, ItemStreamWriter.MAX_SLOTS + 1)));
+        assertThrows(IOException.class, () -> read(stream(ItemStreamWriter.MAGIC, ItemStreamWriter.VERSION, Integer.MAX_VALUE)));
+        assertThrows(IOException.class, () -> read(stream(ItemStreamWriter.MAGIC, ItemStreamWriter.VERSION, -5)));
+    }
+
+    @Test
+    void outOfRangeSlotIsRejected() {
+        // slot + 1 overflowing into a negative value, then a slot beyond the limit
+        assertThrows(IOException.class, () -> read(stream(ItemStreamWriter.MAGIC, ItemStreamWriter.VERSION, 9, -1, 4)));
+        assertThrows(IOException.class, () -> read(stream(ItemStreamWriter.MAGIC, ItemStreamWriter.VERSION, 9, ItemStreamWriter.MAX_SLOTS + 1, 4)));
+    }
+
+    @Test
+    void slotBeyondStoredSizeIsRejected() {
+        // slot 9 (written as 10) in a stream of size 9
+        IOException e = assertThrows(IOException.class, () -> read(stream(ItemStreamWriter.MAGIC, ItemStreamWriter.VERSION, 9, 10, 4)));
+        assertEquals("Invalid slot: 9", e.getMessage());
+    }
+
+    @Test
+    void invalidItemLengthIsRejected() {
+        assertThrows(IOException.class, () -> read(stream(ItemStreamWriter.MAGIC, ItemStreamWriter.VERSION, 9, 1, 0)));
+        assertThrows(IOException.class, () -> read(stream(ItemStreamWriter.MAGIC, ItemStreamWriter.VERSION, 9, 1, Integer.MAX_VALUE)));
+    }
+
+    @Test
+    void truncatedDataIsRejected() {
+        assertThrows(EOFException.class, () -> read(stream(ItemStreamWriter.MAGIC, ItemStreamWriter.VERSION, 9, 1, 100)));
+        assertThrows(EOFException.class, () -> read(stream(ItemStreamWriter.MAGIC, ItemStreamWriter.VERSION, 9)));
+    }
+
+    @Test
+    void serializerReturnsNullForMalformedData() throws IOException {
+        assertNull(ItemSerializer.deserializeItems(new byte[0]));
+        assertNull(ItemSerializer.deserializeItems(stream(ItemStreamWriter.MAGIC, ItemStreamWriter.VERSION, Integer.MAX_VALUE)));
+        assertNull(ItemSerializer.deserializeItems(stream(ItemStreamWriter.MAGIC, ItemStreamWriter.VERSION, 9, -1, 4)));
+        assertNull(ItemSerializer.deserializeItemsFromBase64("not base64!"));
+        assertNull(ItemSerializer.deserializeItemsFromBase64(Base64.getEncoder().encodeToString(new byte[]{1, 2, 3})));
+    }
+
+    private static ItemStack[] read(byte[] data) throws IOException {
+        try (ItemStreamReader reader = new ItemStreamReader(new ByteArrayInputStream(data))) {
+            return reader.readAll();
+        }
+    }
+
+    /**
+     * Builds a stream header followed by raw varints.
+     */
+    private static byte[] stream(int magic, int version, int... varInts) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(magic);
+        out.writeByte(version);
+        for (int value : varInts) {
+            ItemStreamWriter.writeVarInt(out, value);
+        }
+        return bytes.toByteArray();
+    }
+}
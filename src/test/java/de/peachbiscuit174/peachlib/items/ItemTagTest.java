@@ -0,0 +1,49 @@
+package de.peachbiscuit174.peachlib.items;
+
+import io.papermc.paper.persistence.PersistentDataContainerView;
+import org.bukkit.NamespacedKey;
+import org.bukkit.persistence.PersistentDataType;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ItemTagTest {
+
+    private static final NamespacedKey FLAG = new NamespacedKey("peachlib", "flag");
+    private static final NamespacedKey LEVEL = new NamespacedKey("peachlib", "level");
+    private static final NamespacedKey MISSING = new NamespacedKey("peachlib", "missing");
+
+    @Test
+    void onlyBooleanEntriesAreRemovedAsTags() {
+        PersistentDataContainerView view = view(Map.of(FLAG, PersistentDataType.BOOLEAN, LEVEL, PersistentDataType.INTEGER));
+
+        assertEquals(List.of(FLAG), ItemTag.presentTags(view, List.of(FLAG, LEVEL, MISSING)));
+    }
+
+    @Test
+    void typedValueWithSameNameSurvivesTagRemoval() {
+        PersistentDataContainerView view = view(Map.of(LEVEL, PersistentDataType.INTEGER));
+
+        assertEquals(List.of(), ItemTag.presentTags(view, List.of(LEVEL)));
+    }
+
+    /**
+     * Creates a data container view that only answers {@code has} for the given keys and their stored type.
+     */
+    private static PersistentDataContainerView view(Map<NamespacedKey, PersistentDataType<?, ?>> entries) {
+        return (PersistentDataContainerView) Proxy.newProxyInstance(
+                ItemTagTest.class.getClassLoader(),
+                new Class<?>[]{PersistentDataContainerView.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("has")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    PersistentDataType<?, ?> stored = entries.get(args[0]);
+                    return stored != null && (args.length == 1 || stored == args[1]);
+                });
+    }
+}
@@ -0,0 +1,81 @@
+package de.peachbiscuit174.peachlib.items;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Builds item-like NBT without a server, for tests of the byte-level codecs.
+ */
+final class TestNbt {
+
+    private TestNbt() {
+    }
+
+    /**
+     * @return Raw NBT of an item with nested components, lists and arrays before the DataVersion.
+     */
+    static byte[] item(int dataVersion) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(10);
+            out.writeUTF("");
+
+            out.writeByte(8);
+            out.writeUTF("id");
+            out.writeUTF("minecraft:diamond_sword");
+            out.writeByte(3);
+            out.writeUTF("count");
+            out.writeInt(1);
+
+            out.writeByte(10);
+            out.writeUTF("components");
+            out.writeByte(9);
+            out.writeUTF("minecraft:lore");
+            out.writeByte(8);
+            out.writeInt(2);
+            out.writeUTF("{\"text\":\"Sharp\"}");
+            out.writeUTF("{\"text\":\"Shiny\"}");
+            out.writeByte(11);
+            out.writeUTF("ints");
+            out.writeInt(2);
+            out.writeInt(7);
+            out.writeInt(9);
+            out.writeByte(12);
+            out.writeUTF("longs");
+            out.writeInt(1);
+            out.writeLong(42L);
+            out.writeByte(7);
+            out.writeUTF("bytes");
+            out.writeInt(3);
+            out.write(new byte[]{1, 2, 3});
+            out.writeByte(6);
+            out.writeUTF("double");
+            out.writeDouble(1.5);
+            out.writeByte(0);
+
+            out.writeByte(3);
+            out.writeUTF("DataVersion");
+            out.writeInt(dataVersion);
+            out.writeByte(0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @return The NBT gzip-compressed like Paper's {@code ItemStack#serializeAsBytes()}.
+     */
+    static byte[] gzip(byte[] raw) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}